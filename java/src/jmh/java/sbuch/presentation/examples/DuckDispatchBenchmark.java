@@ -0,0 +1,95 @@
+package sbuch.presentation.examples;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures only the dispatch of {@code quack()}, without the logging done by {@link DuckExample}: each benchmark
+ * returns what the dispatch yields, so JMH consumes it.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DuckDispatchBenchmark {
+    private Quacker quacker;
+    private Object freckledDuck;
+    private Object notQuacker;
+
+    @Setup
+    public void setUp() {
+        quacker = new RubberDuck();
+        freckledDuck = new FreckledDuck();
+        notQuacker = new Dog();
+    }
+
+    @Benchmark
+    public Object interfaceDispatch() {
+        return quacker.quack();
+    }
+
+    @Benchmark
+    public Object structuralDispatchOnQuacker() {
+        return structuralQuack(quacker);
+    }
+
+    @Benchmark
+    public Object structuralDispatchOnStructuralQuacker() {
+        return structuralQuack(freckledDuck);
+    }
+
+    @Benchmark
+    public Object structuralDispatchOnNonQuacker() {
+        return structuralQuack(notQuacker);
+    }
+
+    @Benchmark
+    public Object reflectiveDispatchOnStructuralQuacker() {
+        return reflectiveQuack(freckledDuck);
+    }
+
+    @Benchmark
+    public Object reflectiveDispatchOnNonQuacker() {
+        return reflectiveQuack(notQuacker);
+    }
+
+    /**
+     * Dispatch done by {@link DuckExample#makeStuffQuack}.
+     */
+    private static Object structuralQuack(Object maybeQuacker) {
+        var adapter = QuackDispatcher.adapterFor(maybeQuacker.getClass());
+        return adapter.isEmpty() ? null : adapter.get().quack(maybeQuacker);
+    }
+
+    /**
+     * Uncached lookup that {@link DuckExample#makeStuffQuack} used to do, kept as a baseline.
+     */
+    private static Object reflectiveQuack(Object maybeQuacker) {
+        Method quackMethod;
+        try {
+            quackMethod = maybeQuacker.getClass().getMethod("quack");
+        } catch (NoSuchMethodException ignored) {
+            return null;
+        }
+
+        try {
+            return quackMethod.invoke(maybeQuacker);
+        } catch (InvocationTargetException | IllegalAccessException e) {
+            return e;
+        }
+    }
+}
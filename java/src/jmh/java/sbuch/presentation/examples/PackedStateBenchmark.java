@@ -0,0 +1,81 @@
+package sbuch.presentation.examples;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PackedStateBenchmark {
+    @Param({"1000000"})
+    private int size;
+
+    private TrafficLight[] trafficLights;
+    private PackedTrafficLights packedTrafficLights;
+    private Door[] doors;
+    private PackedDoors packedDoors;
+
+    @Setup
+    public void setUp() {
+        trafficLights = new TrafficLight[size];
+        doors = new Door[size];
+        for (int i = 0; i < size; i++) {
+            trafficLights[i] = new TrafficLight(true, false, false);
+            doors[i] = new OpenDoor();
+        }
+        packedTrafficLights = new PackedTrafficLights(size);
+        packedDoors = new PackedDoors(size);
+    }
+
+    @Benchmark
+    public TrafficLight[] advanceTrafficLightRecords() {
+        for (int i = 0; i < trafficLights.length; i++) {
+            TrafficLight light = trafficLights[i];
+            trafficLights[i] = light.redOn()
+                    ? new TrafficLight(false, false, true)
+                    : light.greenOn() ? new TrafficLight(false, true, false) : new TrafficLight(true, false, false);
+        }
+        return trafficLights;
+    }
+
+    @Benchmark
+    public PackedTrafficLights advancePackedTrafficLights() {
+        packedTrafficLights.advance(0, size);
+        return packedTrafficLights;
+    }
+
+    @Benchmark
+    public PackedTrafficLights advancePackedTrafficLightsInParallel() {
+        packedTrafficLights.advanceInParallel(0, size);
+        return packedTrafficLights;
+    }
+
+    @Benchmark
+    public Door[] toggleDoorRecords() {
+        for (int i = 0; i < doors.length; i++) {
+            doors[i] = doors[i] instanceof OpenDoor ? new ClosedDoor(false) : new OpenDoor();
+        }
+        return doors;
+    }
+
+    @Benchmark
+    public PackedDoors togglePackedDoors() {
+        packedDoors.apply(PackedDoors.Transition.CLOSE, 0, size);
+        packedDoors.apply(PackedDoors.Transition.OPEN, 0, size);
+        return packedDoors;
+    }
+}
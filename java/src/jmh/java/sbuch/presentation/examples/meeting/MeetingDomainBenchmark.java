@@ -0,0 +1,84 @@
+package sbuch.presentation.examples.meeting;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sbuch.presentation.examples.meeting.core.CorporateContact;
+import sbuch.presentation.examples.meeting.core.InPersonMeeting;
+import sbuch.presentation.examples.meeting.core.Meeting;
+import sbuch.presentation.examples.meeting.core.MeetingRoom;
+import sbuch.presentation.examples.meeting.core.OnlineMeeting;
+import sbuch.presentation.examples.meeting.core.ValidationResult;
+import sbuch.presentation.examples.meeting.core.VideoLink;
+import sbuch.presentation.examples.meeting.core.VideoPlatform;
+import sbuch.presentation.examples.meeting.framework.MeetingFramework;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class MeetingDomainBenchmark {
+    private VideoLink videoLink;
+    private MeetingFramework inPersonFramework;
+    private MeetingFramework onlineFramework;
+    private MeetingFramework overCapacityFramework;
+
+    @Setup
+    public void setUp() {
+        videoLink = VideoLink.of("https://zoom.us/j/123456789").getValue();
+        inPersonFramework = new MeetingFramework.InPersonMeetingFramework("Team Meeting", "john.doe@acme.org", MeetingRoom.ROOM_101, 5);
+        onlineFramework = new MeetingFramework.OnlineMeetingFramework("Weekly Standup", "team.lead@acme.org", VideoPlatform.ZOOM, videoLink);
+        overCapacityFramework = new MeetingFramework.InPersonMeetingFramework("Room Capacity Exceeded", "john.doe@acme.org", MeetingRoom.ROOM_101, 21);
+    }
+
+    @Benchmark
+    public ValidationResult<CorporateContact> corporateContactValid() {
+        return CorporateContact.of("john.doe@acme.org");
+    }
+
+    @Benchmark
+    public ValidationResult<CorporateContact> corporateContactBadDomain() {
+        return CorporateContact.of("firstname.lastname@gmail.com");
+    }
+
+    @Benchmark
+    public ValidationResult<Meeting> inPersonMeeting() {
+        return InPersonMeeting.of("Team Meeting", "john.doe@acme.org", MeetingRoom.ROOM_101, 5);
+    }
+
+    @Benchmark
+    public ValidationResult<Meeting> inPersonMeetingOverCapacity() {
+        return InPersonMeeting.of("Room Capacity Exceeded", "john.doe@acme.org", MeetingRoom.ROOM_101, 21);
+    }
+
+    @Benchmark
+    public ValidationResult<Meeting> onlineMeeting() {
+        return OnlineMeeting.of("Weekly Standup", "team.lead@acme.org", VideoPlatform.ZOOM, videoLink);
+    }
+
+    @Benchmark
+    public ValidationResult<Meeting> fromFrameworkInPerson() {
+        return MeetingExample.createMeetingFromFrameworkValidated(inPersonFramework);
+    }
+
+    @Benchmark
+    public ValidationResult<Meeting> fromFrameworkOnline() {
+        return MeetingExample.createMeetingFromFrameworkValidated(onlineFramework);
+    }
+
+    @Benchmark
+    public ValidationResult<Meeting> fromFrameworkOverCapacity() {
+        return MeetingExample.createMeetingFromFrameworkValidated(overCapacityFramework);
+    }
+}
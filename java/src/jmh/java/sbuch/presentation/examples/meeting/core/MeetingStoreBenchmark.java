@@ -0,0 +1,93 @@
+package sbuch.presentation.examples.meeting.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dashboard-style aggregation, the number of guests per meeting room, over the same meetings held as objects and in
+ * a {@link MeetingStore}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MeetingStoreBenchmark {
+    private static final int MEETINGS = 100_000;
+    private static final String[] FIRST_NAMES = {"john", "jane", "alice", "bob", "carol", "dave", "erin", "frank", "grace", "heidi",
+            "ivan", "judy", "mallory", "nina", "oscar", "peggy", "quentin", "rupert", "sybil", "trent"};
+    private static final String[] LAST_NAMES = {"doe", "smith", "martin", "bernard", "dubois", "thomas", "robert", "richard", "petit", "durand",
+            "leroy", "moreau", "simon", "laurent", "lefebvre", "michel", "garcia", "david", "bertrand", "roux",
+            "vincent", "fournier", "morel", "girard", "andre", "lefevre", "mercier", "dupont", "lambert", "bonnet",
+            "francois", "martinez", "legrand", "garnier", "faure", "rousseau", "blanc", "guerin", "muller", "henry",
+            "roussel", "nicolas", "perrin", "morin", "mathieu", "clement", "gauthier", "dumont", "lopez", "fontaine"};
+    private static final String[] TITLES = {"Team Meeting", "Weekly Standup", "Planning", "Retrospective", "Project Review"};
+    private static final int VIDEO_LINKS = 500;
+    private static final Instant MONDAY = Instant.parse("2025-06-02T09:00:00Z");
+
+    private final List<Meeting> objects = new ArrayList<>(MEETINGS);
+    private final MeetingStore store = new MeetingStore();
+
+    /**
+     * Builds meetings as an organization would hold them: a thousand organizers, a few hundred recurring video links,
+     * and a time slot of its own for every in-person meeting.
+     */
+    static List<Meeting> meetings(int count) {
+        VideoLink[] videoLinks = new VideoLink[VIDEO_LINKS];
+        for (int i = 0; i < videoLinks.length; i++) {
+            videoLinks[i] = VideoLink.of("https://zoom.us/j/" + (100_000_000 + i)).getValue();
+        }
+
+        List<Meeting> meetings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String title = TITLES[i % TITLES.length];
+            int organizer = i % (FIRST_NAMES.length * LAST_NAMES.length);
+            String email = FIRST_NAMES[organizer % FIRST_NAMES.length] + "." + LAST_NAMES[organizer / FIRST_NAMES.length] + "@acme.org";
+            Instant start = MONDAY.plusSeconds(900L * i);
+            meetings.add(i % 3 == 0
+                    ? OnlineMeeting.of(title, email, VideoPlatform.ZOOM, videoLinks[i % VIDEO_LINKS]).getValue()
+                    : InPersonMeeting.of(title, email, MeetingRoom.values()[i % 3], 1 + i % 20, start, start.plusSeconds(1800L * (1 + i % 4))).getValue());
+        }
+        return meetings;
+    }
+
+    @Setup
+    public void setUp() {
+        objects.addAll(meetings(MEETINGS));
+        objects.forEach(store::append);
+    }
+
+    @Benchmark
+    public int[] guestsPerRoomFromObjects() {
+        int[] guests = new int[MeetingRoom.values().length];
+        for (Meeting meeting : objects) {
+            if (meeting instanceof InPersonMeeting inPersonMeeting)
+                guests[inPersonMeeting.meetingRoom.ordinal()] += inPersonMeeting.nGuests;
+        }
+        return guests;
+    }
+
+    @Benchmark
+    public int[] guestsPerRoomFromStore() {
+        int[] guests = new int[MeetingRoom.values().length];
+        store.scan(row -> {
+            if (row.isInPerson())
+                guests[row.meetingRoom().ordinal()] += row.numberOfGuests();
+        });
+        return guests;
+    }
+}
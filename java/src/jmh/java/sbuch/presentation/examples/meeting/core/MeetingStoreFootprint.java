@@ -0,0 +1,51 @@
+package sbuch.presentation.examples.meeting.core;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Measures the heap retained by the same meetings held as objects and in a {@link MeetingStore}, which JMH does not
+ * report: each representation is built on its own, and the used heap is compared before and after, once garbage is
+ * collected. Contacts are canonical and shared by both representations, so they are not counted. Takes the number of
+ * meetings as argument, 1,000,000 by default, and prints the bytes retained per meeting.
+ */
+public class MeetingStoreFootprint {
+
+    private MeetingStoreFootprint() {
+    }
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        // Fills the contact cache, and loads every class involved
+        new MeetingStore().append(MeetingStoreBenchmark.meetings(count).getLast());
+
+        long objects = retained(() -> MeetingStoreBenchmark.meetings(count));
+        long store = retained(() -> {
+            MeetingStore meetings = new MeetingStore();
+            MeetingStoreBenchmark.meetings(count).forEach(meetings::append);
+            return meetings;
+        });
+
+        System.out.printf("%-8s %12s%n", "layout", "bytes/meeting");
+        System.out.printf("%-8s %12.1f%n", "objects", (double) objects / count);
+        System.out.printf("%-8s %12.1f%n", "store", (double) store / count);
+        System.out.printf("%-8s %11.1fx%n", "ratio", (double) objects / store);
+    }
+
+    private static long retained(Supplier<Object> build) {
+        long before = usedHeap();
+        Object retained = build.get();
+        long after = usedHeap();
+        Reference.reachabilityFence(retained);
+        return after - before;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
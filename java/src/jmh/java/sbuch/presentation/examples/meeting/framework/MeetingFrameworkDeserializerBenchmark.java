@@ -0,0 +1,73 @@
+package sbuch.presentation.examples.meeting.framework;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sbuch.presentation.examples.meeting.core.ValidationResult;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class MeetingFrameworkDeserializerBenchmark {
+    static final String VALID_IN_PERSON = """
+            {"title": "Team Meeting", "contactEmail": "john.doe@acme.org", "type": "in_person", "meetingRoom": "small", "nGuests": 5}
+            """;
+    static final String VALID_ONLINE = """
+            {"title": "Weekly Standup", "contactEmail": "team.lead@acme.org", "type": "online", "videoPlatform": "zoom", "videoLink": "https://zoom.us/j/123456789"}
+            """;
+    static final String INVALID_CONSTRAINT = """
+            {"title": "   ", "contactEmail": "invalid-email", "type": "in_person", "meetingRoom": "small", "nGuests": 0}
+            """;
+    static final String INVALID_ROOM = """
+            {"title": "Team Meeting", "contactEmail": "john.doe@acme.org", "type": "in_person", "meetingRoom": "invalid-room", "nGuests": 5}
+            """;
+    static final String MALFORMED = """
+            {"title": "Team Meeting", "contactEmail": "john.doe@acme.org", "type":
+            """;
+
+    // Roughly 30% invalid traffic, as seen in production
+    private static final String[] MIXED = {
+            VALID_IN_PERSON, VALID_ONLINE, INVALID_CONSTRAINT, VALID_IN_PERSON, VALID_ONLINE,
+            VALID_IN_PERSON, INVALID_ROOM, VALID_ONLINE, VALID_IN_PERSON, MALFORMED
+    };
+
+    private int next;
+
+    @Benchmark
+    public ValidationResult<MeetingFramework> validInPerson() {
+        return MeetingFrameworkDeserializer.createMeetingFromRaw(VALID_IN_PERSON);
+    }
+
+    @Benchmark
+    public ValidationResult<MeetingFramework> validOnline() {
+        return MeetingFrameworkDeserializer.createMeetingFromRaw(VALID_ONLINE);
+    }
+
+    @Benchmark
+    public ValidationResult<MeetingFramework> invalidConstraints() {
+        return MeetingFrameworkDeserializer.createMeetingFromRaw(INVALID_CONSTRAINT);
+    }
+
+    @Benchmark
+    public ValidationResult<MeetingFramework> invalidRoom() {
+        return MeetingFrameworkDeserializer.createMeetingFromRaw(INVALID_ROOM);
+    }
+
+    @Benchmark
+    public ValidationResult<MeetingFramework> mixed() {
+        String payload = MIXED[next];
+        next = (next + 1) % MIXED.length;
+        return MeetingFrameworkDeserializer.createMeetingFromRaw(payload);
+    }
+}
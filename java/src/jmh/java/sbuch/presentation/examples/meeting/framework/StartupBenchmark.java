@@ -0,0 +1,131 @@
+package sbuch.presentation.examples.meeting.framework;
+
+import sbuch.presentation.examples.meeting.MeetingExample;
+import sbuch.presentation.examples.meeting.core.Meeting;
+import sbuch.presentation.examples.meeting.core.ValidationResult;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Measures the cost of validating the first meeting in a fresh JVM, for every constraint checking mode of
+ * {@link MeetingFrameworkConstraints}, with and without {@link MeetingFrameworkDeserializer#prewarm()}.
+ * <p>
+ * JMH only measures warmed-up code, so every run is a new process instead: it reports the wall time from its launch
+ * to the first validated meeting, the latency of that first request, and the number of classes loaded, as logged by
+ * {@code -Xlog:class+load}. Takes the number of runs per scenario as argument, 10 by default, and prints medians.
+ */
+public class StartupBenchmark {
+    private static final String[] MODES = {"generated", "bean-validation", "bean-validation-el"};
+    private static final String RESULT_PREFIX = "first-meeting ";
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        Path logs = Files.createTempDirectory("startup-benchmark");
+
+        System.out.printf("%-20s %-8s %12s %14s %9s %11s %6s%n",
+                "mode", "prewarm", "wall (ms)", "request (us)", "classes", "validator", "el");
+        for (String mode : MODES) {
+            for (boolean prewarm : new boolean[]{false, true}) {
+                List<Run> results = new ArrayList<>(runs);
+                for (int i = 0; i < runs; i++) {
+                    results.add(run(mode, prewarm, logs.resolve("%s-%b-%d.log".formatted(mode, prewarm, i))));
+                }
+                System.out.printf("%-20s %-8b %12.1f %14.1f %9d %11d %6d%n",
+                        mode,
+                        prewarm,
+                        median(results.stream().mapToLong(Run::wallNanos).toArray()) / 1e6,
+                        median(results.stream().mapToLong(Run::requestNanos).toArray()) / 1e3,
+                        median(results.stream().mapToLong(Run::classes).toArray()),
+                        median(results.stream().mapToLong(Run::validatorClasses).toArray()),
+                        median(results.stream().mapToLong(Run::expressionLanguageClasses).toArray()));
+            }
+        }
+        Files.delete(logs);
+    }
+
+    private static Run run(String mode, boolean prewarm, Path classLog) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                "-D" + MeetingFrameworkConstraints.MODE_PROPERTY + "=" + mode,
+                "-Xlog:class+load=info:file=" + classLog,
+                Probe.class.getName(),
+                Boolean.toString(prewarm)
+        ).redirectErrorStream(true).start();
+        long start = System.nanoTime();
+
+        long wallNanos = -1;
+        long requestNanos = -1;
+        try (BufferedReader out = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            for (String line = out.readLine(); line != null; line = out.readLine()) {
+                if (line.startsWith(RESULT_PREFIX)) {
+                    wallNanos = System.nanoTime() - start;
+                    requestNanos = Long.parseLong(line.substring(RESULT_PREFIX.length()).trim());
+                }
+            }
+        }
+        if (process.waitFor() != 0 || wallNanos < 0)
+            throw new IllegalStateException("Startup probe failed in mode %s, prewarm %b".formatted(mode, prewarm));
+
+        long classes = 0;
+        long validatorClasses = 0;
+        long expressionLanguageClasses = 0;
+        try (Stream<String> lines = Files.lines(classLog)) {
+            for (String line : (Iterable<String>) lines::iterator) {
+                classes++;
+                if (line.contains(" org.hibernate.validator."))
+                    validatorClasses++;
+                if (line.contains(" jakarta.el.") || line.contains(" org.glassfish.expressly."))
+                    expressionLanguageClasses++;
+            }
+        }
+        Files.delete(classLog);
+        return new Run(wallNanos, requestNanos, classes, validatorClasses, expressionLanguageClasses);
+    }
+
+    private static long median(long[] values) {
+        Arrays.sort(values);
+        return values[values.length / 2];
+    }
+
+    private record Run(long wallNanos, long requestNanos, long classes, long validatorClasses, long expressionLanguageClasses) {
+    }
+
+    /**
+     * Validates a single meeting, optionally after prewarming, and prints the latency of that first request.
+     */
+    public static final class Probe {
+        private static final String PAYLOAD = """
+                {"title": "Team Meeting", "contactEmail": "john.doe@acme.org", "type": "in_person", "meetingRoom": "small", "nGuests": 5}
+                """;
+
+        private Probe() {
+        }
+
+        public static void main(String[] args) {
+            if (Boolean.parseBoolean(args[0]))
+                MeetingFrameworkDeserializer.prewarm();
+
+            long start = System.nanoTime();
+            ValidationResult<MeetingFramework> framework = MeetingFrameworkDeserializer.createMeetingFromRaw(PAYLOAD);
+            ValidationResult<Meeting> meeting = MeetingExample.createMeetingFromFrameworkValidated(framework.getValue());
+            long elapsed = System.nanoTime() - start;
+
+            if (meeting.hasFailedValidation())
+                throw new IllegalStateException(meeting.getError().getMessage());
+            System.out.println(RESULT_PREFIX + elapsed);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package sbuch.presentation.examples.meeting.storage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import sbuch.presentation.examples.meeting.core.InPersonMeeting;
+import sbuch.presentation.examples.meeting.core.Meeting;
+import sbuch.presentation.examples.meeting.core.MeetingRoom;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class MeetingLogBenchmark {
+    @Param({"NEVER", "INTERVAL", "ALWAYS"})
+    private FsyncPolicy fsyncPolicy;
+
+    private Path directory;
+    private MeetingLog log;
+    private Meeting meeting;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("meeting-log-benchmark");
+        log = MeetingLog.open(directory, fsyncPolicy);
+        meeting = InPersonMeeting.of("Team Meeting", "john.doe@acme.org", MeetingRoom.ROOM_101, 5).getValue();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        log.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void append() {
+        log.append(meeting);
+    }
+}
@@ -1,7 +1,7 @@
 package sbuch.presentation.examples;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.lang.invoke.WrongMethodTypeException;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 public class DuckExample {
@@ -38,22 +38,20 @@ public class DuckExample {
         LOGGER.info("Duck says: " + duck.quack());
     }
 
-    private static void makeQuackerQuack(Quacker quacker) {
+    static void makeQuackerQuack(Quacker quacker) {
         LOGGER.info("Quacker says: " + quacker.quack());
     }
 
-    private static void makeStuffQuack(Object maybeQuacker) {
-        Method quackMethod;
-        try {
-            quackMethod = maybeQuacker.getClass().getMethod("quack");
-        } catch (NoSuchMethodException ignored) {
+    static void makeStuffQuack(Object maybeQuacker) {
+        Optional<QuackDispatcher.QuackAdapter> adapter = QuackDispatcher.adapterFor(maybeQuacker.getClass());
+        if (adapter.isEmpty()) {
             LOGGER.warning(maybeQuacker.getClass().getName() + " is not a Quacker");
             return;
         }
 
         try {
-            LOGGER.info("Verified quacker says: " + quackMethod.invoke(maybeQuacker));
-        } catch (InvocationTargetException | IllegalAccessException ignored) {
+            LOGGER.info("Verified quacker says: " + adapter.get().quack(maybeQuacker));
+        } catch (IllegalAccessError | WrongMethodTypeException ignored) {
             LOGGER.severe(maybeQuacker.getClass().getName() + " is an unknown type of quacker");
         }
     }
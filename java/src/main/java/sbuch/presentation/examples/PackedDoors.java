@@ -0,0 +1,63 @@
+package sbuch.presentation.examples;
+
+/**
+ * States of many doors, 2 bits each: the low bit is set for a closed door and the high bit for a locked one,
+ * so a door is open ({@code 00}), closed ({@code 01}) or closed and locked ({@code 11}). Every door starts open.
+ */
+final class PackedDoors extends PackedLanes {
+    private static final int CLOSED = 0b01;
+    private static final int LOCKED = 0b11;
+
+    /**
+     * Opens the closed doors that are not locked.
+     */
+    private static final WordTransition OPENING = word -> word & (HIGH_BITS | word >>> 1);
+    private static final WordTransition CLOSING = word -> word | LOW_BITS;
+    /**
+     * Locks the closed doors, open doors cannot be locked.
+     */
+    private static final WordTransition LOCKING = word -> word | (word & LOW_BITS) << 1;
+    private static final WordTransition UNLOCKING = word -> word & LOW_BITS;
+
+    enum Transition {OPEN, CLOSE, LOCK, UNLOCK}
+
+    PackedDoors(int size) {
+        super(size);
+    }
+
+    Door door(int index) {
+        return switch (lane(index)) {
+            case CLOSED -> new ClosedDoor(false);
+            case LOCKED -> new ClosedDoor(true);
+            default -> new OpenDoor();
+        };
+    }
+
+    void setDoor(int index, Door door) {
+        setLane(index, switch (door) {
+            case OpenDoor ignored -> 0;
+            case ClosedDoor(boolean isLocked) -> isLocked ? LOCKED : CLOSED;
+        });
+    }
+
+    /**
+     * Applies the transition to the doors {@code [from, to)}.
+     */
+    void apply(Transition transition, int from, int to) {
+        switch (transition) {
+            case OPEN -> transform(from, to, OPENING);
+            case CLOSE -> transform(from, to, CLOSING);
+            case LOCK -> transform(from, to, LOCKING);
+            case UNLOCK -> transform(from, to, UNLOCKING);
+        }
+    }
+
+    void applyInParallel(Transition transition, int from, int to) {
+        switch (transition) {
+            case OPEN -> transformInParallel(from, to, OPENING);
+            case CLOSE -> transformInParallel(from, to, CLOSING);
+            case LOCK -> transformInParallel(from, to, LOCKING);
+            case UNLOCK -> transformInParallel(from, to, UNLOCKING);
+        }
+    }
+}
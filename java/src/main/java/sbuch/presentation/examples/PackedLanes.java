@@ -0,0 +1,117 @@
+package sbuch.presentation.examples;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fixed number of 2-bit lanes packed 32 to a {@code long}, transformed a whole word at a time.
+ * <p>
+ * Ranges are split on word boundaries when transformed in parallel, so that no two tasks write the same word.
+ */
+abstract class PackedLanes {
+    static final int LANES_PER_WORD = Long.SIZE / 2;
+    /**
+     * Low bit of every lane.
+     */
+    static final long LOW_BITS = 0x5555555555555555L;
+    /**
+     * High bit of every lane.
+     */
+    static final long HIGH_BITS = LOW_BITS << 1;
+
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /**
+     * Transition applied to every lane of a word at once.
+     */
+    @FunctionalInterface
+    interface WordTransition {
+        long apply(long word);
+    }
+
+    private final long[] words;
+    private final int size;
+
+    PackedLanes(int size) {
+        if (size < 0)
+            throw new IllegalArgumentException("Size must not be negative, got %d".formatted(size));
+        this.size = size;
+        this.words = new long[(size + LANES_PER_WORD - 1) / LANES_PER_WORD];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    final int lane(int index) {
+        Objects.checkIndex(index, size);
+        return (int) (words[index / LANES_PER_WORD] >>> shift(index)) & 3;
+    }
+
+    final void setLane(int index, int value) {
+        Objects.checkIndex(index, size);
+        int word = index / LANES_PER_WORD;
+        words[word] = words[word] & ~(3L << shift(index)) | (long) value << shift(index);
+    }
+
+    /**
+     * Applies the transition to the lanes {@code [from, to)}.
+     */
+    final void transform(int from, int to, WordTransition transition) {
+        Objects.checkFromToIndex(from, to, size);
+        if (from == to)
+            return;
+
+        int first = from / LANES_PER_WORD;
+        int last = (to - 1) / LANES_PER_WORD;
+        long firstMask = -1L << shift(from);
+        long lastMask = -1L >>> shift(-to);
+        if (first == last) {
+            transform(first, firstMask & lastMask, transition);
+            return;
+        }
+
+        transform(first, firstMask, transition);
+        for (int i = first + 1; i < last; i++) {
+            words[i] = transition.apply(words[i]);
+        }
+        transform(last, lastMask, transition);
+    }
+
+    final void transformInParallel(int from, int to, WordTransition transition) {
+        Objects.checkFromToIndex(from, to, size);
+        ForkJoinPool.commonPool().invoke(new TransformTask(from, to, transition));
+    }
+
+    private void transform(int word, long mask, WordTransition transition) {
+        long value = words[word];
+        words[word] = value & ~mask | transition.apply(value) & mask;
+    }
+
+    private static int shift(int index) {
+        return (index & LANES_PER_WORD - 1) << 1;
+    }
+
+    private final class TransformTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final WordTransition transition;
+
+        TransformTask(int from, int to, WordTransition transition) {
+            this.from = from;
+            this.to = to;
+            this.transition = transition;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                transform(from, to, transition);
+                return;
+            }
+            int middle = (from + (to - from) / 2) & -LANES_PER_WORD;
+            invokeAll(new TransformTask(from, middle, transition), new TransformTask(middle, to, transition));
+        }
+    }
+}
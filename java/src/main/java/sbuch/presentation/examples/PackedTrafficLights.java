@@ -0,0 +1,46 @@
+package sbuch.presentation.examples;
+
+/**
+ * Colors of many traffic lights, 2 bits each: the lane of a light holds the ordinal of its {@link TrafficLightColor},
+ * so {@code RED = 00}, {@code ORANGE = 01} and {@code GREEN = 10}. Every light starts red.
+ */
+final class PackedTrafficLights extends PackedLanes {
+    private static final TrafficLightColor[] COLORS = TrafficLightColor.values();
+
+    /**
+     * RED → GREEN → ORANGE → RED: the new high bit is set for red lanes only, and the new low bit for green ones.
+     */
+    private static final WordTransition ADVANCE = word -> {
+        long low = word & LOW_BITS;
+        long high = word >>> 1 & LOW_BITS;
+        return (~(high | low) & LOW_BITS) << 1 | high;
+    };
+
+    PackedTrafficLights(int size) {
+        super(size);
+    }
+
+    TrafficLightColor color(int index) {
+        return COLORS[lane(index)];
+    }
+
+    void setColor(int index, TrafficLightColor color) {
+        setLane(index, color.ordinal());
+    }
+
+    TrafficLight trafficLight(int index) {
+        TrafficLightColor color = color(index);
+        return new TrafficLight(color == TrafficLightColor.RED, color == TrafficLightColor.ORANGE, color == TrafficLightColor.GREEN);
+    }
+
+    /**
+     * Moves the lights {@code [from, to)} to their next color.
+     */
+    void advance(int from, int to) {
+        transform(from, to, ADVANCE);
+    }
+
+    void advanceInParallel(int from, int to) {
+        transformInParallel(from, to, ADVANCE);
+    }
+}
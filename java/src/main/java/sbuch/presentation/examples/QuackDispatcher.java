@@ -0,0 +1,105 @@
+package sbuch.presentation.examples;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+
+/**
+ * Structural dispatch of {@code quack()} on objects that do not implement {@link Quacker}.
+ * <p>
+ * The lookup is done once per class and cached in a {@link ClassValue}: a class with a public no-arg {@code quack}
+ * method gets an adapter calling it directly, any other class gets none. After warm-up, a dispatch costs one interface
+ * call on the adapter.
+ */
+final class QuackDispatcher {
+    /**
+     * Calls {@code quack()} on receivers of a single class.
+     */
+    @FunctionalInterface
+    interface QuackAdapter {
+        Object quack(Object receiver);
+    }
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType ADAPTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<Optional<QuackAdapter>> ADAPTERS = new ClassValue<>() {
+        @Override
+        protected Optional<QuackAdapter> computeValue(Class<?> type) {
+            return adapterOf(type);
+        }
+    };
+
+    private QuackDispatcher() {
+    }
+
+    /**
+     * @return the adapter for instances of the class, or an empty {@link Optional} if they cannot quack
+     */
+    static Optional<QuackAdapter> adapterFor(Class<?> type) {
+        return ADAPTERS.get(type);
+    }
+
+    private static Optional<QuackAdapter> adapterOf(Class<?> type) {
+        Method quack;
+        try {
+            quack = type.getMethod("quack");
+        } catch (NoSuchMethodException ignored) {
+            return Optional.empty();
+        }
+        return Optional.of(adapterOf(type, quack));
+    }
+
+    private static QuackAdapter adapterOf(Class<?> type, Method quack) {
+        MethodHandle handle;
+        try {
+            handle = LOOKUP.unreflect(quack);
+        } catch (IllegalAccessException e) {
+            return receiver -> {
+                IllegalAccessError error = new IllegalAccessError(type.getName() + " is an unknown type of quacker");
+                error.initCause(e);
+                throw error;
+            };
+        }
+
+        if (!Modifier.isStatic(quack.getModifiers()) && quack.getReturnType() != void.class && isVisible(type)) {
+            try {
+                return (QuackAdapter) LambdaMetafactory.metafactory(
+                        LOOKUP,
+                        "quack",
+                        MethodType.methodType(QuackAdapter.class),
+                        ADAPTER_TYPE,
+                        handle,
+                        MethodType.methodType(quack.getReturnType(), type)
+                ).getTarget().invokeExact();
+            } catch (Throwable ignored) {
+                // e.g. a receiver class that is not accessible from here: falls back to the method handle
+            }
+        }
+
+        MethodHandle quackHandle = (Modifier.isStatic(quack.getModifiers()) ? MethodHandles.dropArguments(handle, 0, Object.class) : handle)
+                .asType(ADAPTER_TYPE);
+        return receiver -> {
+            try {
+                return quackHandle.invokeExact(receiver);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    // The spun adapter links against the receiver class from this class loader
+    private static boolean isVisible(Class<?> type) {
+        try {
+            return Class.forName(type.getName(), false, QuackDispatcher.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
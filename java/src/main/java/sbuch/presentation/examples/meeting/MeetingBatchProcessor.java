@@ -0,0 +1,131 @@
+package sbuch.presentation.examples.meeting;
+
+import sbuch.presentation.examples.meeting.core.Meeting;
+import sbuch.presentation.examples.meeting.core.ValidationResult;
+import sbuch.presentation.examples.meeting.framework.MeetingFramework;
+import sbuch.presentation.examples.meeting.framework.MeetingFrameworkDeserializer;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Turns batches of raw payloads into meetings in parallel, running the framework and the domain validation of each
+ * payload on the given executor. Payloads are processed in contiguous chunks, with at most {@code maxConcurrency}
+ * chunks in flight, and results are returned in input order.
+ */
+public final class MeetingBatchProcessor {
+    private static final Executor VIRTUAL_THREADS = task -> Thread.ofVirtual().name("meeting-batch").start(task);
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private final Executor executor;
+    private final int maxConcurrency;
+
+    public MeetingBatchProcessor(Executor executor, int maxConcurrency) {
+        if (maxConcurrency < 1)
+            throw new IllegalArgumentException("maxConcurrency must be positive, got %d".formatted(maxConcurrency));
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public static MeetingBatchProcessor withVirtualThreads(int maxConcurrency) {
+        return new MeetingBatchProcessor(VIRTUAL_THREADS, maxConcurrency);
+    }
+
+    public static MeetingBatchProcessor withVirtualThreads() {
+        return withVirtualThreads(Runtime.getRuntime().availableProcessors());
+    }
+
+    public BatchResult process(List<String> rawPayloads) throws InterruptedException {
+        int size = rawPayloads.size();
+        @SuppressWarnings("unchecked")
+        ValidationResult<Meeting>[] results = new ValidationResult[size];
+        byte[] outcomes = new byte[size];
+
+        int chunkSize = Math.max(1, Math.ceilDiv(size, maxConcurrency * CHUNKS_PER_WORKER));
+        int chunkCount = Math.ceilDiv(size, chunkSize);
+        var permits = new Semaphore(maxConcurrency);
+        var done = new CountDownLatch(chunkCount);
+        var failure = new AtomicReference<Throwable>();
+
+        for (int start = 0; start < size; start += chunkSize) {
+            int from = start;
+            int to = Math.min(size, start + chunkSize);
+            permits.acquire();
+            try {
+                executor.execute(() -> {
+                    try {
+                        for (int i = from; i < to; i++) {
+                            outcomes[i] = processOne(rawPayloads.get(i), results, i);
+                        }
+                    } catch (RuntimeException | Error e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        permits.release();
+                        done.countDown();
+                    }
+                });
+            } catch (RuntimeException e) {
+                permits.release();
+                done.countDown();
+                failure.compareAndSet(null, e);
+            }
+        }
+        done.await();
+
+        if (failure.get() != null)
+            throw new IllegalStateException("Batch processing failed", failure.get());
+
+        int[] counts = new int[Outcome.VALUES.length];
+        for (byte outcome : outcomes) {
+            counts[outcome]++;
+        }
+        return new BatchResult(
+                Collections.unmodifiableList(Arrays.asList(results)),
+                counts[Outcome.SUCCEEDED.ordinal()],
+                counts[Outcome.REJECTED_RAW.ordinal()],
+                counts[Outcome.REJECTED_DOMAIN.ordinal()]
+        );
+    }
+
+    private static byte processOne(String rawPayload, ValidationResult<Meeting>[] results, int index) {
+        ValidationResult<MeetingFramework> framework = MeetingFrameworkDeserializer.createMeetingFromRaw(rawPayload);
+        if (framework.hasFailedValidation()) {
+            results[index] = ValidationResult.failure(framework.getError());
+            return (byte) Outcome.REJECTED_RAW.ordinal();
+        }
+
+        ValidationResult<Meeting> meeting = MeetingExample.createMeetingFromFrameworkValidated(framework.getValue());
+        results[index] = meeting;
+        return (byte) (meeting.hasFailedValidation() ? Outcome.REJECTED_DOMAIN : Outcome.SUCCEEDED).ordinal();
+    }
+
+    private enum Outcome {
+        SUCCEEDED,
+        REJECTED_RAW,
+        REJECTED_DOMAIN;
+
+        private static final Outcome[] VALUES = values();
+    }
+
+    /**
+     * @param results        one result per payload, in input order
+     * @param succeeded      number of payloads turned into a meeting
+     * @param rejectedRaw    number of payloads rejected while parsing or by the framework constraints
+     * @param rejectedDomain number of payloads rejected by the domain rules
+     */
+    public record BatchResult(
+            List<ValidationResult<Meeting>> results,
+            int succeeded,
+            int rejectedRaw,
+            int rejectedDomain
+    ) {
+        public int total() {
+            return results.size();
+        }
+    }
+}
@@ -1,40 +1,65 @@
 package sbuch.presentation.examples.meeting;
 
+import sbuch.presentation.examples.meeting.audit.AuditLog;
 import sbuch.presentation.examples.meeting.core.*;
 import sbuch.presentation.examples.meeting.framework.MeetingFramework;
-
-import java.net.URL;
-import java.util.logging.Logger;
+import sbuch.presentation.examples.meeting.framework.MeetingIngestionPipeline;
+import sbuch.presentation.examples.meeting.metrics.IngestionMetrics;
+import sbuch.presentation.examples.meeting.storage.MeetingLog;
 
 public class MeetingExample {
-    private static final Logger LOGGER = Logger.getLogger(MeetingExample.class.getName());
+    private final MeetingLog repository;
+    private final AuditLog auditLog;
 
-    private MeetingExample() {
+    public MeetingExample(MeetingLog repository, AuditLog auditLog) {
+        this.repository = repository;
+        this.auditLog = auditLog;
     }
 
     public static ValidationResult<Meeting> createMeetingFromFrameworkValidated(MeetingFramework frameworkValidated) {
+        long start = System.nanoTime();
+        ValidationResult<Meeting> result = toDomain(frameworkValidated);
+        IngestionMetrics metrics = IngestionMetrics.shared();
+        metrics.recordDomainValidation(System.nanoTime() - start);
+        metrics.count(result);
+        return result;
+    }
+
+    private static ValidationResult<Meeting> toDomain(MeetingFramework frameworkValidated) {
         return switch (frameworkValidated) {
             case MeetingFramework.InPersonMeetingFramework(String title, String email, MeetingRoom room, int nGuests) ->
                     InPersonMeeting.of(
                             title, email, room, nGuests
                     );
-            case MeetingFramework.OnlineMeetingFramework(String title, String email, VideoPlatform platform, URL url) ->
+            case MeetingFramework.OnlineMeetingFramework(String title, String email, VideoPlatform platform, VideoLink link) ->
                     OnlineMeeting.of(
-                            title, email, platform, url
+                            title, email, platform, link
                     );
         };
     }
 
+    /**
+     * Fast path decoding raw JSON straight into a {@link Meeting}, with the same outcome as deserializing it into a
+     * {@link MeetingFramework} and calling {@link #createMeetingFromFrameworkValidated}.
+     */
+    public static ValidationResult<Meeting> createMeetingFromRaw(String rawJson) {
+        return MeetingIngestionPipeline.shared().decodeMeeting(rawJson);
+    }
+
+    /**
+     * Stores the meeting, and queues its audit entry without waiting for it to be written.
+     */
     public void saveToRepo(Meeting meeting) {
-        switch (meeting) {
-            case InPersonMeeting inPersonMeeting: {
-                LOGGER.info("InPersonMeeting in room %s saved to DB".formatted(inPersonMeeting.meetingRoom));
-                break;
-            }
-            case OnlineMeeting onlineMeeting: {
-                LOGGER.info("OnlineMeeting hosted on %s saved to DB".formatted(onlineMeeting.videoPlatform));
-            }
+        MeetingSaveEvent event = new MeetingSaveEvent();
+        event.begin();
+        boolean saved = false;
+        try {
+            repository.append(meeting);
+            saved = true;
+        } finally {
+            event.finish(meeting, saved);
         }
+        auditLog.record(meeting);
     }
 
 }
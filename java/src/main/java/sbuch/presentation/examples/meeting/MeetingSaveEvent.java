@@ -0,0 +1,42 @@
+package sbuch.presentation.examples.meeting;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import sbuch.presentation.examples.meeting.core.InPersonMeeting;
+import sbuch.presentation.examples.meeting.core.Meeting;
+import sbuch.presentation.examples.meeting.core.MeetingCodec;
+import sbuch.presentation.examples.meeting.core.OnlineMeeting;
+
+@Name("sbuch.meeting.Save")
+@Label("Meeting Save")
+@Category({"Meeting", "Storage"})
+@Threshold("1 ms")
+@StackTrace(false)
+final class MeetingSaveEvent extends jdk.jfr.Event {
+    @Label("Meeting Type")
+    String meetingType;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Payload Size")
+    @DataAmount(DataAmount.BYTES)
+    long payloadSize;
+
+    void finish(Meeting meeting, boolean saved) {
+        end();
+        if (shouldCommit()) {
+            meetingType = switch (meeting) {
+                case InPersonMeeting ignored -> "in_person";
+                case OnlineMeeting ignored -> "online";
+            };
+            outcome = saved ? "saved" : "failed";
+            payloadSize = MeetingCodec.encodedSize(meeting);
+            commit();
+        }
+    }
+}
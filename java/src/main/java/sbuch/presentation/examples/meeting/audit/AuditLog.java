@@ -0,0 +1,304 @@
+package sbuch.presentation.examples.meeting.audit;
+
+import sbuch.presentation.examples.meeting.core.InPersonMeeting;
+import sbuch.presentation.examples.meeting.core.Meeting;
+import sbuch.presentation.examples.meeting.core.OnlineMeeting;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Audit trail of saved meetings, written to rolling files by a background thread.
+ * <p>
+ * Recording a meeting only copies its type, room or platform and contact into a preallocated slot of a ring buffer:
+ * producers claim slots with a CAS on a shared sequence, and publish them by writing the sequence of the slot once it
+ * is filled. The writer thread formats and appends the published entries in batches of up to {@value #MAX_BATCH},
+ * as tab-separated lines, and starts a new {@code audit-NNNNNN.log} file once the current one would exceed its size limit.
+ * On close, the writer drains the buffer and then seals the sequence, so that a producer racing {@link #close()} either
+ * gets its entry written or is rejected.
+ */
+public final class AuditLog implements Closeable {
+    private static final Logger LOGGER = Logger.getLogger(AuditLog.class.getName());
+
+    public static final int DEFAULT_CAPACITY = 1 << 14;
+    public static final long DEFAULT_MAX_FILE_SIZE = 64L << 20;
+
+    static final int MAX_BATCH = 1024;
+    private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final String FILE_PREFIX = "audit-";
+    private static final String FILE_SUFFIX = ".log";
+    private static final Pattern FILE_NAME = Pattern.compile(Pattern.quote(FILE_PREFIX) + "(\\d{1,9})" + Pattern.quote(FILE_SUFFIX));
+    private static final long SEALED = Long.MAX_VALUE;
+
+    private final Entry[] entries;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final OverflowPolicy overflowPolicy;
+    private final AtomicLong claimed = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final Thread writer;
+    private volatile long consumed;
+    private volatile long written;
+    private volatile boolean closed;
+
+    // writer thread only
+    private final Path directory;
+    private final long maxFileSize;
+    private int fileIndex;
+    private long fileSize;
+    private OutputStream out;
+
+    private AuditLog(Path directory, OverflowPolicy overflowPolicy, int capacity, long maxFileSize) {
+        this.entries = new Entry[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            entries[i] = new Entry();
+            published.set(i, -1);
+        }
+        this.mask = capacity - 1;
+        this.overflowPolicy = overflowPolicy;
+        this.directory = directory;
+        this.maxFileSize = maxFileSize;
+        this.writer = Thread.ofPlatform().daemon().name("meeting-audit-log").unstarted(this::run);
+    }
+
+    public static AuditLog open(Path directory, OverflowPolicy overflowPolicy) throws IOException {
+        return open(directory, overflowPolicy, DEFAULT_CAPACITY, DEFAULT_MAX_FILE_SIZE);
+    }
+
+    /**
+     * @param capacity number of entries that can wait to be written, a power of two
+     */
+    public static AuditLog open(Path directory, OverflowPolicy overflowPolicy, int capacity, long maxFileSize) throws IOException {
+        AuditLog auditLog = create(directory, overflowPolicy, capacity, maxFileSize);
+        auditLog.writer.start();
+        return auditLog;
+    }
+
+    /**
+     * Opens the log without starting its writer thread.
+     */
+    static AuditLog create(Path directory, OverflowPolicy overflowPolicy, int capacity, long maxFileSize) throws IOException {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1)
+            throw new IllegalArgumentException("Capacity must be a power of two, got %d".formatted(capacity));
+        if (maxFileSize <= 0)
+            throw new IllegalArgumentException("Maximum file size must be positive, got %d".formatted(maxFileSize));
+        Files.createDirectories(directory);
+        AuditLog auditLog = new AuditLog(directory, overflowPolicy, capacity, maxFileSize);
+        auditLog.openLastFile();
+        return auditLog;
+    }
+
+    void start() {
+        writer.start();
+    }
+
+    /**
+     * Queues an entry for the meeting.
+     *
+     * @return {@code false} if the entry was dropped because the buffer is full
+     */
+    public boolean record(Meeting meeting) {
+        Objects.requireNonNull(meeting, "meeting");
+        // nothing may throw between the claim and the publication, or the writer would wait for the slot forever
+        boolean inPerson;
+        Object place;
+        String contact;
+        switch (meeting) {
+            case InPersonMeeting inPersonMeeting -> {
+                inPerson = true;
+                place = inPersonMeeting.meetingRoom;
+                contact = inPersonMeeting.contact.email;
+            }
+            case OnlineMeeting onlineMeeting -> {
+                inPerson = false;
+                place = onlineMeeting.videoPlatform;
+                contact = onlineMeeting.contact.email;
+            }
+        }
+        long timestamp = System.currentTimeMillis();
+
+        long sequence = claim();
+        if (sequence < 0) {
+            dropped.increment();
+            return false;
+        }
+
+        int index = (int) sequence & mask;
+        entries[index].set(timestamp, inPerson, place, contact);
+        published.setRelease(index, sequence);
+        return true;
+    }
+
+    public OverflowPolicy overflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    public long writtenCount() {
+        return written;
+    }
+
+    public long pendingCount() {
+        long claimedCount = claimed.get();
+        return claimedCount == SEALED ? 0 : claimedCount - consumed;
+    }
+
+    /**
+     * Writes every entry recorded so far, then stops the writer thread.
+     */
+    @Override
+    public void close() {
+        if (closed)
+            return;
+        closed = true;
+        if (writer.getState() == Thread.State.NEW)
+            writer.start();
+        LockSupport.unpark(writer);
+
+        boolean interrupted = false;
+        while (true) {
+            try {
+                writer.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+
+    private long claim() {
+        while (true) {
+            if (closed)
+                throw new IllegalStateException("AuditLog is closed");
+            long sequence = claimed.get();
+            if (sequence == SEALED)
+                throw new IllegalStateException("AuditLog is closed");
+            if (sequence - consumed > mask) {
+                if (overflowPolicy == OverflowPolicy.DROP)
+                    return -1;
+                LockSupport.parkNanos(BACKOFF_NANOS);
+                continue;
+            }
+            if (claimed.compareAndSet(sequence, sequence + 1))
+                return sequence;
+        }
+    }
+
+    private void run() {
+        StringBuilder batch = new StringBuilder(MAX_BATCH * 64);
+        try {
+            while (true) {
+                long next = consumed;
+                int count = 0;
+                while (count < MAX_BATCH && published.getAcquire((int) (next + count) & mask) == next + count) {
+                    entries[(int) (next + count) & mask].appendTo(batch);
+                    count++;
+                }
+
+                if (count > 0) {
+                    write(batch, count);
+                    batch.setLength(0);
+                    consumed = next + count;
+                } else if (closed && claimed.compareAndSet(next, SEALED)) {
+                    return;
+                } else {
+                    LockSupport.parkNanos(IDLE_NANOS);
+                }
+            }
+        } finally {
+            closeFile();
+        }
+    }
+
+    private void write(StringBuilder batch, int count) {
+        byte[] bytes = batch.toString().getBytes(StandardCharsets.UTF_8);
+        try {
+            if (fileSize > 0 && fileSize + bytes.length > maxFileSize) {
+                closeFile();
+                fileIndex++;
+                openFile();
+            }
+            out.write(bytes);
+            fileSize += bytes.length;
+            written += count;
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Cannot write %d audit entries to %s".formatted(count, directory), e);
+            dropped.add(count);
+        }
+    }
+
+    private void openLastFile() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            fileIndex = files
+                    .map(path -> FILE_NAME.matcher(path.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .mapToInt(name -> Integer.parseInt(name.group(1)))
+                    .max()
+                    .orElse(0);
+        }
+        openFile();
+    }
+
+    private void openFile() throws IOException {
+        Path path = directory.resolve("%s%06d%s".formatted(FILE_PREFIX, fileIndex, FILE_SUFFIX));
+        out = Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        fileSize = Files.size(path);
+    }
+
+    private void closeFile() {
+        try {
+            out.close();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Cannot close audit log file in %s".formatted(directory), e);
+        }
+    }
+
+    /**
+     * Preallocated slot of the ring buffer, read by the writer thread once its sequence is published.
+     */
+    private static final class Entry {
+        private long timestamp;
+        private boolean inPerson;
+        private Object place;
+        private String contact;
+
+        void set(long timestamp, boolean inPerson, Object place, String contact) {
+            this.timestamp = timestamp;
+            this.inPerson = inPerson;
+            this.place = place;
+            this.contact = contact;
+        }
+
+        void appendTo(StringBuilder line) {
+            line.append(Instant.ofEpochMilli(timestamp))
+                    .append('\t').append(inPerson ? "in_person" : "online")
+                    .append('\t').append(place)
+                    .append('\t').append(contact)
+                    .append('\n');
+        }
+    }
+}
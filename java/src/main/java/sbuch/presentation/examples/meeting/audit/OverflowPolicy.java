@@ -0,0 +1,15 @@
+package sbuch.presentation.examples.meeting.audit;
+
+/**
+ * What {@link AuditLog#record} does when the entries waiting to be written fill its buffer.
+ */
+public enum OverflowPolicy {
+    /**
+     * The caller waits until the background writer frees a slot.
+     */
+    BLOCK,
+    /**
+     * The entry is discarded and counted in {@link AuditLog#droppedCount()}.
+     */
+    DROP
+}
@@ -0,0 +1,124 @@
+package sbuch.presentation.examples.meeting.booking;
+
+import sbuch.presentation.examples.meeting.core.ErrorCode;
+import sbuch.presentation.examples.meeting.core.InPersonMeeting;
+import sbuch.presentation.examples.meeting.core.MeetingRoom;
+import sbuch.presentation.examples.meeting.core.TimeSlot;
+import sbuch.presentation.examples.meeting.core.ValidationResult;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Books {@link InPersonMeeting}s into their room, rejecting any meeting whose time slot overlaps an existing booking.
+ * <p>
+ * Each room keeps its bookings in a tree ordered by start time. Since accepted bookings never overlap each other,
+ * the only candidate for a conflict is the latest booking starting before the new one ends, so a conflict is
+ * detected in O(log n) whatever the number of bookings. Each room has its own lock, so that bookings for different
+ * rooms never contend.
+ */
+public final class BookingEngine {
+    private final Map<MeetingRoom, RoomSchedule> schedules = new EnumMap<>(MeetingRoom.class);
+
+    public BookingEngine() {
+        for (MeetingRoom room : MeetingRoom.values()) {
+            schedules.put(room, new RoomSchedule());
+        }
+    }
+
+    public ValidationResult<InPersonMeeting> book(InPersonMeeting meeting) {
+        TimeSlot timeSlot = meeting.timeSlot;
+        if (timeSlot == null)
+            return ValidationResult.failure(ErrorCode.UNSCHEDULED);
+
+        RoomSchedule schedule = schedules.get(meeting.meetingRoom);
+        schedule.lock.writeLock().lock();
+        try {
+            InPersonMeeting conflict = schedule.conflictWith(timeSlot);
+            if (conflict != null)
+                return ValidationResult.failure(ErrorCode.BOOKING_CONFLICT, meeting.meetingRoom, conflict.timeSlot.start, conflict.timeSlot.end);
+            schedule.bookings.put(timeSlot.start, meeting);
+        } finally {
+            schedule.lock.writeLock().unlock();
+        }
+        return ValidationResult.success(meeting);
+    }
+
+    /**
+     * @return whether the meeting was booked, and is not anymore
+     */
+    public boolean cancel(InPersonMeeting meeting) {
+        if (meeting.timeSlot == null)
+            return false;
+
+        RoomSchedule schedule = schedules.get(meeting.meetingRoom);
+        schedule.lock.writeLock().lock();
+        try {
+            return schedule.bookings.remove(meeting.timeSlot.start, meeting);
+        } finally {
+            schedule.lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isAvailable(MeetingRoom room, TimeSlot timeSlot) {
+        RoomSchedule schedule = schedules.get(room);
+        schedule.lock.readLock().lock();
+        try {
+            return schedule.conflictWith(timeSlot) == null;
+        } finally {
+            schedule.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the meetings booked in the room that overlap {@code [from, to)}, ordered by start time
+     */
+    public List<InPersonMeeting> bookings(MeetingRoom room, Instant from, Instant to) {
+        RoomSchedule schedule = schedules.get(room);
+        schedule.lock.readLock().lock();
+        try {
+            Instant first = schedule.bookings.floorKey(from);
+            NavigableMap<Instant, InPersonMeeting> candidates = first != null
+                    ? schedule.bookings.subMap(first, true, to, false)
+                    : schedule.bookings.headMap(to, false);
+
+            List<InPersonMeeting> overlapping = new ArrayList<>();
+            for (InPersonMeeting meeting : candidates.values()) {
+                if (meeting.timeSlot.end.isAfter(from))
+                    overlapping.add(meeting);
+            }
+            return overlapping;
+        } finally {
+            schedule.lock.readLock().unlock();
+        }
+    }
+
+    public int size(MeetingRoom room) {
+        RoomSchedule schedule = schedules.get(room);
+        schedule.lock.readLock().lock();
+        try {
+            return schedule.bookings.size();
+        } finally {
+            schedule.lock.readLock().unlock();
+        }
+    }
+
+    private static final class RoomSchedule {
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final TreeMap<Instant, InPersonMeeting> bookings = new TreeMap<>();
+
+        private InPersonMeeting conflictWith(TimeSlot timeSlot) {
+            Map.Entry<Instant, InPersonMeeting> previous = bookings.lowerEntry(timeSlot.end);
+            if (previous != null && previous.getValue().timeSlot.end.isAfter(timeSlot.start))
+                return previous.getValue();
+            return null;
+        }
+    }
+}
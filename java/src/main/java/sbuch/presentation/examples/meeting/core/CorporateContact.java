@@ -15,18 +15,21 @@ public class CorporateContact {
     }
 
     public static ValidationResult<CorporateContact> of(String email) {
-        var splittedEmail = email.split("@");
-
-        var domain = splittedEmail[1];
-        if (!domain.equals("acme.org"))
-            return ValidationResult.failure("Email domain must be 'acme.org', '%s' is not valid.".formatted(domain));
+        return CorporateContactCache.shared().get(email, CorporateContact::parse);
+    }
 
-        var splittedUsername = splittedEmail[0].split("\\.");
-        if (splittedUsername.length != 2)
-            return ValidationResult.failure("Username must be 'firstname.lastname', '%s' is not valid.".formatted(splittedEmail[0]));
+    static ValidationResult<CorporateContact> parse(String email) {
+        long parsed = CorporateEmail.parse(email);
 
-        var firstName = splittedUsername[0].substring(0, 1).toUpperCase() + splittedUsername[0].substring(1);
-        var lastName = splittedUsername[1].toUpperCase();
-        return ValidationResult.success(new CorporateContact(firstName, lastName, email));
+        return switch (CorporateEmail.status(parsed)) {
+            case MALFORMED -> ValidationResult.failure(ErrorCode.MALFORMED_EMAIL, email);
+            case FOREIGN_DOMAIN -> ValidationResult.failure(ErrorCode.FOREIGN_EMAIL_DOMAIN, email);
+            case BAD_USERNAME -> ValidationResult.failure(ErrorCode.BAD_USERNAME, email);
+            case VALID -> ValidationResult.success(new CorporateContact(
+                    CorporateEmail.firstName(email, parsed),
+                    CorporateEmail.lastName(email, parsed),
+                    email
+            ));
+        };
     }
 }
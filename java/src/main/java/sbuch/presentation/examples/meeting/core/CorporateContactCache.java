@@ -0,0 +1,75 @@
+package sbuch.presentation.examples.meeting.core;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.function.Function;
+
+/**
+ * Bounded, concurrent cache of validated contacts keyed by email, evicting with W-TinyLFU.
+ * Every caller asking for the same email gets the same canonical {@link CorporateContact} instance. Invalid emails are
+ * not cached, so that a stream of them cannot evict valid contacts.
+ * <p>
+ * The size of the shared cache defaults to {@value #DEFAULT_MAXIMUM_SIZE} entries and can be set with the
+ * {@value #MAXIMUM_SIZE_PROPERTY} system property, or changed at runtime with {@link #resize(long)}.
+ */
+public final class CorporateContactCache {
+    public static final String MAXIMUM_SIZE_PROPERTY = "sbuch.meeting.contactCache.maximumSize";
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final Cache<String, ValidationResult<CorporateContact>> cache;
+
+    public CorporateContactCache(long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    public static CorporateContactCache shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    ValidationResult<CorporateContact> get(String email, Function<String, ValidationResult<CorporateContact>> parser) {
+        if (email == null)
+            return parser.apply(null);
+        ValidationResult<CorporateContact> cached = cache.getIfPresent(email);
+        if (cached != null)
+            return cached;
+
+        ValidationResult<CorporateContact> parsed = parser.apply(email);
+        if (parsed.hasFailedValidation())
+            return parsed;
+        ValidationResult<CorporateContact> raced = cache.asMap().putIfAbsent(email, parsed);
+        return raced == null ? parsed : raced;
+    }
+
+    public long hitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long missCount() {
+        return cache.stats().missCount();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    public long maximumSize() {
+        return cache.policy().eviction().orElseThrow().getMaximum();
+    }
+
+    public void resize(long maximumSize) {
+        cache.policy().eviction().orElseThrow().setMaximum(maximumSize);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static final class SharedHolder {
+        private static final CorporateContactCache INSTANCE =
+                new CorporateContactCache(Long.getLong(MAXIMUM_SIZE_PROPERTY, DEFAULT_MAXIMUM_SIZE));
+    }
+}
@@ -0,0 +1,159 @@
+package sbuch.presentation.examples.meeting.core;
+
+/**
+ * Single-pass, index-based parser for corporate email addresses.
+ * <p>
+ * {@link #parse(String)} checks the syntax, the domain and the {@code firstname.lastname} username in one scan
+ * and packs the outcome into a {@code long}, so parsing itself never allocates.
+ * A username with consecutive dots or ending with a dot is not well-formed, but still gets its domain checked and is
+ * then reported as a bad username, as the {@code firstname.lastname} rule is what it breaks for the domain.
+ */
+public final class CorporateEmail {
+    public static final String DOMAIN = "acme.org";
+
+    private static final int MAX_LOCAL_PART_LENGTH = 64;
+    private static final int MAX_DOMAIN_LENGTH = 255;
+    private static final int MAX_LABEL_LENGTH = 63;
+
+    private static final Status[] STATUSES = Status.values();
+    private static final long INDEX_MASK = 0xFF_FFFFL;
+    private static final long MALFORMED = Status.MALFORMED.ordinal();
+    private static final long MISPLACED_DOT = 0x80;
+
+    private CorporateEmail() {
+    }
+
+    public enum Status {
+        VALID,
+        MALFORMED,
+        FOREIGN_DOMAIN,
+        BAD_USERNAME
+    }
+
+    public static long parse(String email) {
+        if (email == null)
+            return MALFORMED;
+
+        int length = email.length();
+        int at = -1;
+        int dot = -1;
+        int dotCount = 0;
+        boolean previousWasDot = true;
+        boolean misplacedDot = false;
+        int labelStart = -1;
+        boolean domainMatches = true;
+
+        for (int i = 0; i < length; i++) {
+            char c = email.charAt(i);
+
+            if (at < 0) {
+                if (c == '@') {
+                    if (i == 0 || i > MAX_LOCAL_PART_LENGTH)
+                        return MALFORMED;
+                    misplacedDot |= previousWasDot;
+                    at = i;
+                    labelStart = i + 1;
+                } else if (c == '.') {
+                    if (i == 0)
+                        return MALFORMED;
+                    misplacedDot |= previousWasDot;
+                    previousWasDot = true;
+                    dot = i;
+                    dotCount++;
+                } else if (isLocalPartChar(c)) {
+                    previousWasDot = false;
+                } else {
+                    return MALFORMED;
+                }
+                continue;
+            }
+
+            int domainIndex = i - at - 1;
+            if (domainMatches && (domainIndex >= DOMAIN.length() || DOMAIN.charAt(domainIndex) != c))
+                domainMatches = false;
+
+            if (c == '.') {
+                if (!isValidLabel(email, labelStart, i))
+                    return MALFORMED;
+                labelStart = i + 1;
+            } else if (!isDomainChar(c)) {
+                return MALFORMED;
+            }
+        }
+
+        if (at < 0 || length - at - 1 > MAX_DOMAIN_LENGTH || !isValidLabel(email, labelStart, length))
+            return MALFORMED;
+
+        Status status;
+        if (!domainMatches || length - at - 1 != DOMAIN.length())
+            status = Status.FOREIGN_DOMAIN;
+        else if (dotCount != 1 || misplacedDot)
+            status = Status.BAD_USERNAME;
+        else
+            status = Status.VALID;
+
+        return status.ordinal() | (misplacedDot ? MISPLACED_DOT : 0) | ((long) at << 8) | ((dot & INDEX_MASK) << 32);
+    }
+
+    public static Status status(long parsed) {
+        return STATUSES[(int) (parsed & 0x7F)];
+    }
+
+    public static boolean isWellFormed(long parsed) {
+        return status(parsed) != Status.MALFORMED && (parsed & MISPLACED_DOT) == 0;
+    }
+
+    public static int atIndex(long parsed) {
+        return (int) ((parsed >>> 8) & INDEX_MASK);
+    }
+
+    public static int dotIndex(long parsed) {
+        return (int) ((parsed >>> 32) & INDEX_MASK);
+    }
+
+    public static String username(String email, long parsed) {
+        return email.substring(0, atIndex(parsed));
+    }
+
+    public static String domain(String email, long parsed) {
+        return email.substring(atIndex(parsed) + 1);
+    }
+
+    // Upper-cases the first code point like String#toUpperCase: ASCII directly, except the locale-sensitive 'i', and
+    // anything else, such as 'ß' turning into "SS" or a surrogate pair, through String
+    public static String firstName(String email, long parsed) {
+        int dot = dotIndex(parsed);
+        int first = email.codePointAt(0);
+        int firstEnd = Character.charCount(first);
+        StringBuilder name = new StringBuilder(dot + 1);
+        if (first < 0x80 && first != 'i')
+            name.append((char) Character.toUpperCase(first));
+        else
+            name.append(email.substring(0, firstEnd).toUpperCase());
+        return name.append(email, firstEnd, dot).toString();
+    }
+
+    public static String lastName(String email, long parsed) {
+        return email.substring(dotIndex(parsed) + 1, atIndex(parsed)).toUpperCase();
+    }
+
+    private static boolean isValidLabel(String email, int start, int end) {
+        return end > start
+                && end - start <= MAX_LABEL_LENGTH
+                && email.charAt(start) != '-'
+                && email.charAt(end - 1) != '-';
+    }
+
+    private static boolean isLocalPartChar(char c) {
+        if (c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c >= 0x80)
+            return true;
+        return switch (c) {
+            case '!', '#', '$', '%', '&', '\'', '*', '+', '-', '/', '=', '?', '^', '_', '`', '{', '|', '}', '~' -> true;
+            default -> false;
+        };
+    }
+
+    private static boolean isDomainChar(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '-' || c >= 0x80;
+    }
+}
@@ -0,0 +1,69 @@
+package sbuch.presentation.examples.meeting.core;
+
+/**
+ * Stable identifier of a validation failure.
+ * The human-readable message is only rendered from the template and the failure arguments when it is read.
+ */
+public enum ErrorCode {
+    MESSAGE("%s"),
+    INVALID_RAW_OBJECT("Raw object is not valid"),
+    MALFORMED_EMAIL("Email must be 'username@domain', '%s' is not valid."),
+    FOREIGN_EMAIL_DOMAIN("Email domain must be 'acme.org', '%s' is not valid.") {
+        @Override
+        String render(Object[] args) {
+            String email = (String) args[0];
+            return super.render(new Object[]{CorporateEmail.domain(email, CorporateEmail.parse(email))});
+        }
+    },
+    BAD_USERNAME("Username must be 'firstname.lastname', '%s' is not valid.") {
+        @Override
+        String render(Object[] args) {
+            String email = (String) args[0];
+            return super.render(new Object[]{CorporateEmail.username(email, CorporateEmail.parse(email))});
+        }
+    },
+    ROOM_OVER_CAPACITY("max capacity for %s is %s (%s guests required)") {
+        @Override
+        String render(Object[] args) {
+            return super.render(new Object[]{roomName((MeetingRoom) args[0]), args[1], args[2]});
+        }
+    },
+    INVALID_VIDEO_LINK("Video link must be an http(s) URL with a host name, '%s' is not valid."),
+    FOREIGN_VIDEO_LINK("Video link for %s must be hosted on %s, '%s' is not valid."),
+    INVALID_TIME_SLOT("Meeting must end after it starts, %s is not before %s"),
+    UNSCHEDULED("Meeting has no time slot to book"),
+    BOOKING_CONFLICT("%s is already booked from %s to %s") {
+        @Override
+        String render(Object[] args) {
+            return super.render(new Object[]{roomName((MeetingRoom) args[0]), args[1], args[2]});
+        }
+    };
+
+    private final String template;
+    private final int arity;
+
+    ErrorCode(String template) {
+        this.template = template;
+        this.arity = template.split("%s", -1).length - 1;
+    }
+
+    public String template() {
+        return template;
+    }
+
+    public int arity() {
+        return arity;
+    }
+
+    String render(Object[] args) {
+        return args.length == 0 ? template : template.formatted(args);
+    }
+
+    private static String roomName(MeetingRoom room) {
+        return switch (room) {
+            case ROOM_101 -> "room 101";
+            case ROOM_42 -> "room 42";
+            case AMPHITHEATER -> "the amphitheater";
+        };
+    }
+}
@@ -2,6 +2,8 @@ package sbuch.presentation.examples.meeting.core;
 
 import lombok.EqualsAndHashCode;
 
+import java.time.Instant;
+
 @EqualsAndHashCode(callSuper = false)
 public final class InPersonMeeting implements Meeting {
     public final String title;
@@ -9,37 +11,58 @@ public final class InPersonMeeting implements Meeting {
 
     public final MeetingRoom meetingRoom;
     public final int nGuests;
+    /**
+     * When the meeting takes place, or {@code null} if it is not scheduled yet.
+     */
+    public final TimeSlot timeSlot;
 
-    private InPersonMeeting(String title, CorporateContact contact, MeetingRoom meetingRoom, int nGuests) {
+    InPersonMeeting(String title, CorporateContact contact, MeetingRoom meetingRoom, int nGuests, TimeSlot timeSlot) {
         this.title = title;
         this.contact = contact;
         this.meetingRoom = meetingRoom;
         this.nGuests = nGuests;
+        this.timeSlot = timeSlot;
     }
 
     public static ValidationResult<Meeting> of(String title, String email, MeetingRoom meetingRoom, int nGuests) {
+        return of(title, email, meetingRoom, nGuests, null);
+    }
+
+    public static ValidationResult<Meeting> of(String title, String email, MeetingRoom meetingRoom, int nGuests, Instant start, Instant end) {
+        ValidationResult<TimeSlot> timeSlot = TimeSlot.of(start, end);
+        if (timeSlot.hasFailedValidation()) {
+            return ValidationResult.failure(timeSlot.getError());
+        }
+        return of(title, email, meetingRoom, nGuests, timeSlot.getValue());
+    }
+
+    private static ValidationResult<Meeting> of(String title, String email, MeetingRoom meetingRoom, int nGuests, TimeSlot timeSlot) {
+        MeetingDomainValidationEvent event = new MeetingDomainValidationEvent();
+        event.begin();
+        ValidationResult<Meeting> result = validate(title, email, meetingRoom, nGuests, timeSlot);
+        event.finish("in_person", result);
+        return result;
+    }
 
+    /**
+     * Same checks as {@code of}, without emitting a validation event: used to rebuild stored meetings.
+     */
+    static ValidationResult<Meeting> validate(String title, String email, MeetingRoom meetingRoom, int nGuests, TimeSlot timeSlot) {
         ValidationResult<CorporateContact> validationResult = CorporateContact.of(email);
         if (validationResult.hasFailedValidation()) {
-            return ValidationResult.failure(validationResult.getError().getMessage());
+            return ValidationResult.failure(validationResult.getError());
         }
         CorporateContact contact = validationResult.getValue();
 
-        ValidationResult<Meeting> badGuestNumber = switch (meetingRoom) {
-            case ROOM_101 -> (nGuests > 20) ?
-                    ValidationResult.failure("max capacity for room 101 is 20 (%s guests required)".formatted(nGuests))
-                    : null;
-            case ROOM_42 -> (nGuests > 50) ?
-                    ValidationResult.failure("max capacity for room 42 is 50 (%s guests required)".formatted(nGuests))
-                    : null;
-            case AMPHITHEATER -> (nGuests > 200) ?
-                    ValidationResult.failure("max capacity for the amphitheater is 200 (%s guests required)".formatted(nGuests))
-                    : null;
+        int capacity = switch (meetingRoom) {
+            case ROOM_101 -> 20;
+            case ROOM_42 -> 50;
+            case AMPHITHEATER -> 200;
         };
-        if (badGuestNumber != null) {
-            return badGuestNumber;
+        if (nGuests > capacity) {
+            return ValidationResult.failure(ErrorCode.ROOM_OVER_CAPACITY, meetingRoom, capacity, nGuests);
         }
 
-        return ValidationResult.success(new InPersonMeeting(title, contact, meetingRoom, nGuests));
+        return ValidationResult.success(new InPersonMeeting(title, contact, meetingRoom, nGuests, timeSlot));
     }
 }
@@ -0,0 +1,344 @@
+package sbuch.presentation.examples.meeting.core;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Compact binary representation of the {@link Meeting} hierarchy.
+ * <p>
+ * A record starts with a type tag and the fixed-size fields, so that {@link MeetingView} can read them in place:
+ * <pre>
+ * in-person: [1][meetingRoom ordinal][nGuests varint][timeSlot][title][contactEmail]
+ * online:    [2][videoPlatform ordinal][title][contactEmail][videoLink]
+ * </pre>
+ * Strings are written as their UTF-8 length, as a varint, followed by their UTF-8 bytes. Varints must be in their
+ * shortest form, so that the size of a decoded value is also the number of bytes it was read from.
+ * A time slot is a presence byte, followed by the epoch seconds (zigzag varlong) and nanoseconds (varint)
+ * of its start and end.
+ * Decoding reads straight from the given buffer or array slice.
+ */
+public final class MeetingCodec {
+    static final byte IN_PERSON = 1;
+    static final byte ONLINE = 2;
+
+    private static final MeetingRoom[] MEETING_ROOMS = MeetingRoom.values();
+    private static final VideoPlatform[] VIDEO_PLATFORMS = VideoPlatform.values();
+
+    private MeetingCodec() {
+    }
+
+    public static int encodedSize(Meeting meeting) {
+        return switch (meeting) {
+            case InPersonMeeting inPersonMeeting -> 2
+                    + varintSize(inPersonMeeting.nGuests)
+                    + timeSlotSize(inPersonMeeting.timeSlot)
+                    + stringSize(inPersonMeeting.title)
+                    + stringSize(inPersonMeeting.contact.email);
+            case OnlineMeeting onlineMeeting -> 2
+                    + stringSize(onlineMeeting.title)
+                    + stringSize(onlineMeeting.contact.email)
+                    + stringSize(onlineMeeting.videoLink.value);
+        };
+    }
+
+    public static byte[] encode(Meeting meeting) {
+        ByteBuffer out = ByteBuffer.allocate(encodedSize(meeting));
+        encode(meeting, out);
+        return out.array();
+    }
+
+    /**
+     * Writes the meeting at the position of the buffer, and moves the position past it.
+     */
+    public static void encode(Meeting meeting, ByteBuffer out) {
+        switch (meeting) {
+            case InPersonMeeting inPersonMeeting -> {
+                out.put(IN_PERSON);
+                out.put((byte) inPersonMeeting.meetingRoom.ordinal());
+                putVarint(out, inPersonMeeting.nGuests);
+                putTimeSlot(out, inPersonMeeting.timeSlot);
+                putString(out, inPersonMeeting.title);
+                putString(out, inPersonMeeting.contact.email);
+            }
+            case OnlineMeeting onlineMeeting -> {
+                out.put(ONLINE);
+                out.put((byte) onlineMeeting.videoPlatform.ordinal());
+                putString(out, onlineMeeting.title);
+                putString(out, onlineMeeting.contact.email);
+                putString(out, onlineMeeting.videoLink.value);
+            }
+        }
+    }
+
+    /**
+     * Reads the meeting at the position of the buffer, and moves the position past it.
+     */
+    public static Meeting decode(ByteBuffer in) {
+        int index = in.position();
+        Meeting meeting;
+        try {
+            byte tag = in.get(index);
+            int ordinal = in.get(index + 1);
+            index += 2;
+
+            if (tag == IN_PERSON) {
+                MeetingRoom meetingRoom = meetingRoom(ordinal);
+                int nGuests = getVarint(in, index);
+                index += varintSize(nGuests);
+                TimeSlot timeSlot = getTimeSlot(in, index);
+                index = skipTimeSlot(in, index);
+                String title = getString(in, index);
+                index = skipString(in, index);
+                String email = getString(in, index);
+                index = skipString(in, index);
+                meeting = valid(InPersonMeeting.validate(title, email, meetingRoom, nGuests, timeSlot));
+            } else if (tag == ONLINE) {
+                VideoPlatform videoPlatform = videoPlatform(ordinal);
+                String title = getString(in, index);
+                index = skipString(in, index);
+                String email = getString(in, index);
+                index = skipString(in, index);
+                String videoLink = getString(in, index);
+                index = skipString(in, index);
+                meeting = valid(OnlineMeeting.validate(title, email, videoPlatform, videoLink(videoLink)));
+            } else {
+                throw malformed("unknown type tag %d".formatted(tag));
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw malformed("truncated record");
+        }
+
+        in.position(index);
+        return meeting;
+    }
+
+    public static Meeting decode(byte[] bytes, int offset, int length) {
+        return decode(ByteBuffer.wrap(bytes, offset, length));
+    }
+
+    /**
+     * Lazy view over the meeting at the position of the buffer. The position is not moved.
+     */
+    public static MeetingView view(ByteBuffer in) {
+        return new MeetingView(in, in.position());
+    }
+
+    public static MeetingView view(byte[] bytes, int offset, int length) {
+        return view(ByteBuffer.wrap(bytes, offset, length));
+    }
+
+    static MeetingRoom meetingRoom(int ordinal) {
+        if (ordinal < 0 || ordinal >= MEETING_ROOMS.length)
+            throw malformed("unknown meeting room %d".formatted(ordinal));
+        return MEETING_ROOMS[ordinal];
+    }
+
+    static VideoPlatform videoPlatform(int ordinal) {
+        if (ordinal < 0 || ordinal >= VIDEO_PLATFORMS.length)
+            throw malformed("unknown video platform %d".formatted(ordinal));
+        return VIDEO_PLATFORMS[ordinal];
+    }
+
+    /**
+     * Decoded fields go through the same checks as {@code InPersonMeeting.of} and {@code OnlineMeeting.of}, so that a
+     * corrupted or forged record never yields a meeting they would reject.
+     */
+    private static Meeting valid(ValidationResult<Meeting> meeting) {
+        if (meeting.hasFailedValidation())
+            throw malformed(meeting.getError().getMessage());
+        return meeting.getValue();
+    }
+
+    static VideoLink videoLink(String value) {
+        ValidationResult<VideoLink> videoLink = VideoLink.of(value);
+        if (videoLink.hasFailedValidation())
+            throw malformed(videoLink.getError().getMessage());
+        return videoLink.getValue();
+    }
+
+    static int varintSize(int value) {
+        return (38 - Integer.numberOfLeadingZeros(value | 1)) / 7;
+    }
+
+    static void putVarint(ByteBuffer out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    static int getVarint(ByteBuffer in, int index) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.get(index++);
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                if (b == 0 && shift > 0 || shift == 28 && b > 0x0F)
+                    throw malformed("non-canonical varint");
+                return value;
+            }
+        }
+        throw malformed("varint longer than 5 bytes");
+    }
+
+    static int varlongSize(long value) {
+        return (70 - Long.numberOfLeadingZeros(value | 1)) / 7;
+    }
+
+    static void putVarlong(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    static long getVarlong(ByteBuffer in, int index) {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            byte b = in.get(index++);
+            value |= (b & 0x7FL) << shift;
+            if (b >= 0) {
+                if (b == 0 && shift > 0 || shift == 63 && b > 1)
+                    throw malformed("non-canonical varlong");
+                return value;
+            }
+        }
+        throw malformed("varlong longer than 10 bytes");
+    }
+
+    static int timeSlotSize(TimeSlot timeSlot) {
+        if (timeSlot == null)
+            return 1;
+        return 1 + instantSize(timeSlot.start) + instantSize(timeSlot.end);
+    }
+
+    static void putTimeSlot(ByteBuffer out, TimeSlot timeSlot) {
+        if (timeSlot == null) {
+            out.put((byte) 0);
+            return;
+        }
+        out.put((byte) 1);
+        putInstant(out, timeSlot.start);
+        putInstant(out, timeSlot.end);
+    }
+
+    static TimeSlot getTimeSlot(ByteBuffer in, int index) {
+        byte present = in.get(index);
+        if (present == 0)
+            return null;
+        if (present != 1)
+            throw malformed("invalid time slot marker %d".formatted(present));
+        Instant start = getInstant(in, index + 1);
+        Instant end = getInstant(in, index + 1 + instantSize(start));
+        ValidationResult<TimeSlot> timeSlot = TimeSlot.of(start, end);
+        if (timeSlot.hasFailedValidation())
+            throw malformed(timeSlot.getError().getMessage());
+        return timeSlot.getValue();
+    }
+
+    static int skipTimeSlot(ByteBuffer in, int index) {
+        if (in.get(index) == 0)
+            return index + 1;
+        int end = index + 1 + instantSize(getInstant(in, index + 1));
+        return end + instantSize(getInstant(in, end));
+    }
+
+    private static int instantSize(Instant instant) {
+        return varlongSize(zigzag(instant.getEpochSecond())) + varintSize(instant.getNano());
+    }
+
+    private static void putInstant(ByteBuffer out, Instant instant) {
+        putVarlong(out, zigzag(instant.getEpochSecond()));
+        putVarint(out, instant.getNano());
+    }
+
+    private static Instant getInstant(ByteBuffer in, int index) {
+        long zigzag = getVarlong(in, index);
+        long seconds = zigzag >>> 1 ^ -(zigzag & 1);
+        int nanos = getVarint(in, index + varlongSize(zigzag));
+        if (nanos < 0 || nanos > 999_999_999)
+            throw malformed("invalid nanoseconds %d".formatted(nanos));
+        try {
+            return Instant.ofEpochSecond(seconds, nanos);
+        } catch (RuntimeException e) {
+            throw malformed("invalid instant %d.%09d".formatted(seconds, nanos));
+        }
+    }
+
+    private static long zigzag(long value) {
+        return value << 1 ^ value >> 63;
+    }
+
+    static int stringSize(String value) {
+        int length = utf8Length(value);
+        return varintSize(length) + length;
+    }
+
+    static void putString(ByteBuffer out, String value) {
+        putVarint(out, utf8Length(value));
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | c >> 6));
+                out.put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                out.put((byte) (0xF0 | codePoint >> 18));
+                out.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                out.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                out.put((byte) (0x80 | codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                out.put((byte) '?');
+            } else {
+                out.put((byte) (0xE0 | c >> 12));
+                out.put((byte) (0x80 | c >> 6 & 0x3F));
+                out.put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+    static String getString(ByteBuffer in, int index) {
+        int length = getVarint(in, index);
+        int start = index + varintSize(length);
+        if (length > in.limit() - start)
+            throw malformed("string of %d bytes past the end of the record".formatted(length));
+        if (in.hasArray())
+            return new String(in.array(), in.arrayOffset() + start, length, StandardCharsets.UTF_8);
+
+        byte[] bytes = new byte[length];
+        in.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static int skipString(ByteBuffer in, int index) {
+        int length = getVarint(in, index);
+        return index + varintSize(length) + length;
+    }
+
+    private static int utf8Length(String value) {
+        int length = value.length();
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80)
+                continue;
+            if (c < 0x800) {
+                length++;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 2;
+                i++;
+            } else if (!Character.isSurrogate(c)) {
+                length += 2;
+            }
+        }
+        return length;
+    }
+
+    private static IllegalArgumentException malformed(String reason) {
+        return new IllegalArgumentException("Malformed meeting record: " + reason);
+    }
+}
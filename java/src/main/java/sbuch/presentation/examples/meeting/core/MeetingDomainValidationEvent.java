@@ -0,0 +1,43 @@
+package sbuch.presentation.examples.meeting.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("sbuch.meeting.DomainValidation")
+@Label("Meeting Domain Validation")
+@Description("Check of the domain rules by InPersonMeeting.of or OnlineMeeting.of")
+@Category({"Meeting", "Ingestion"})
+@Threshold("1 ms")
+@StackTrace(false)
+final class MeetingDomainValidationEvent extends jdk.jfr.Event {
+    @Label("Meeting Type")
+    String meetingType;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Payload Size")
+    @Description("Encoded size of the accepted meeting, or -1 if it was rejected")
+    @DataAmount(DataAmount.BYTES)
+    long payloadSize;
+
+    void finish(String type, ValidationResult<Meeting> result) {
+        end();
+        if (shouldCommit()) {
+            meetingType = type;
+            if (result.hasFailedValidation()) {
+                outcome = result.getError().getCode().name();
+                payloadSize = -1;
+            } else {
+                outcome = "accepted";
+                payloadSize = MeetingCodec.encodedSize(result.getValue());
+            }
+            commit();
+        }
+    }
+}
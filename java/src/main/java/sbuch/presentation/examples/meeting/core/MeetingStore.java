@@ -0,0 +1,269 @@
+package sbuch.presentation.examples.meeting.core;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * In-memory store of {@link Meeting}s, laid out as one array per field instead of one object per meeting.
+ * <p>
+ * The type, meeting room and video platform are stored as bytes and the number of guests as an int, while titles,
+ * contacts and video links, which meetings share, are replaced by their id in a dictionary holding each distinct value
+ * once. Time slots, nearly unique per meeting, are stored as the epoch seconds of their start and end, and their
+ * nanoseconds, whose columns are only allocated once a slot does not start and end on a whole second.
+ * A row takes 34 bytes, and {@link Meeting} objects are only built, and checked again, by {@link #get},
+ * {@link Row#toMeeting()} and {@link #select}. Appends exclude readers, which may run concurrently with each other.
+ */
+public final class MeetingStore {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int NONE = -1;
+    private static final long NO_TIME_SLOT = Long.MIN_VALUE;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // guarded by lock
+    private int size;
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private byte[] ordinals = new byte[INITIAL_CAPACITY];
+    private int[] guests = new int[INITIAL_CAPACITY];
+    private int[] titleIds = new int[INITIAL_CAPACITY];
+    private int[] contactIds = new int[INITIAL_CAPACITY];
+    private int[] videoLinkIds = new int[INITIAL_CAPACITY];
+    private long[] startSeconds = new long[INITIAL_CAPACITY];
+    private long[] endSeconds = new long[INITIAL_CAPACITY];
+    private int[] startNanos;
+    private int[] endNanos;
+    private final Dictionary<String> titles = new Dictionary<>();
+    private final Dictionary<CorporateContact> contacts = new Dictionary<>();
+    private final Dictionary<VideoLink> videoLinks = new Dictionary<>();
+
+    /**
+     * @return the index of the row holding the meeting
+     */
+    public int append(Meeting meeting) {
+        lock.writeLock().lock();
+        try {
+            if (size == types.length)
+                grow();
+
+            int row = size;
+            switch (meeting) {
+                case InPersonMeeting inPersonMeeting -> {
+                    types[row] = MeetingCodec.IN_PERSON;
+                    ordinals[row] = (byte) inPersonMeeting.meetingRoom.ordinal();
+                    guests[row] = inPersonMeeting.nGuests;
+                    titleIds[row] = titles.idOf(inPersonMeeting.title);
+                    contactIds[row] = contacts.idOf(inPersonMeeting.contact);
+                    videoLinkIds[row] = NONE;
+                    setTimeSlot(row, inPersonMeeting.timeSlot);
+                }
+                case OnlineMeeting onlineMeeting -> {
+                    types[row] = MeetingCodec.ONLINE;
+                    ordinals[row] = (byte) onlineMeeting.videoPlatform.ordinal();
+                    guests[row] = 0;
+                    titleIds[row] = titles.idOf(onlineMeeting.title);
+                    contactIds[row] = contacts.idOf(onlineMeeting.contact);
+                    videoLinkIds[row] = videoLinks.idOf(onlineMeeting.videoLink);
+                    setTimeSlot(row, null);
+                }
+            }
+            size = row + 1;
+            return row;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Meeting get(int row) {
+        lock.readLock().lock();
+        try {
+            return new Row(checkRow(row)).toMeeting();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Visits every row in append order. The visited {@link Row} is reused, and is only valid during the call.
+     *
+     * @return the number of rows visited
+     */
+    public int scan(Consumer<? super Row> visitor) {
+        lock.readLock().lock();
+        try {
+            Row row = new Row(0);
+            for (int end = size; row.index < end; row.index++) {
+                visitor.accept(row);
+            }
+            return row.index;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Builds the meetings of the rows matching the filter, in append order.
+     */
+    public List<Meeting> select(Predicate<? super Row> filter) {
+        List<Meeting> selected = new ArrayList<>();
+        scan(row -> {
+            if (filter.test(row))
+                selected.add(row.toMeeting());
+        });
+        return selected;
+    }
+
+    private int checkRow(int row) {
+        if (row < 0 || row >= size)
+            throw new IndexOutOfBoundsException("Row %d out of bounds for %d meetings".formatted(row, size));
+        return row;
+    }
+
+    private void setTimeSlot(int row, TimeSlot timeSlot) {
+        if (timeSlot == null) {
+            startSeconds[row] = NO_TIME_SLOT;
+            return;
+        }
+        startSeconds[row] = timeSlot.start.getEpochSecond();
+        endSeconds[row] = timeSlot.end.getEpochSecond();
+        if (startNanos == null && (timeSlot.start.getNano() != 0 || timeSlot.end.getNano() != 0)) {
+            startNanos = new int[types.length];
+            endNanos = new int[types.length];
+        }
+        if (startNanos != null) {
+            startNanos[row] = timeSlot.start.getNano();
+            endNanos[row] = timeSlot.end.getNano();
+        }
+    }
+
+    private void grow() {
+        int capacity = types.length * 2;
+        types = Arrays.copyOf(types, capacity);
+        ordinals = Arrays.copyOf(ordinals, capacity);
+        guests = Arrays.copyOf(guests, capacity);
+        titleIds = Arrays.copyOf(titleIds, capacity);
+        contactIds = Arrays.copyOf(contactIds, capacity);
+        videoLinkIds = Arrays.copyOf(videoLinkIds, capacity);
+        startSeconds = Arrays.copyOf(startSeconds, capacity);
+        endSeconds = Arrays.copyOf(endSeconds, capacity);
+        if (startNanos != null) {
+            startNanos = Arrays.copyOf(startNanos, capacity);
+            endNanos = Arrays.copyOf(endNanos, capacity);
+        }
+    }
+
+    /**
+     * Cursor over the columns of a row, reading each field in place.
+     */
+    public final class Row {
+        private int index;
+
+        private Row(int index) {
+            this.index = index;
+        }
+
+        public int index() {
+            return index;
+        }
+
+        public boolean isInPerson() {
+            return types[index] == MeetingCodec.IN_PERSON;
+        }
+
+        public MeetingRoom meetingRoom() {
+            requireType(true);
+            return MeetingCodec.meetingRoom(ordinals[index]);
+        }
+
+        public int numberOfGuests() {
+            requireType(true);
+            return guests[index];
+        }
+
+        /**
+         * @return the time slot of the meeting, or {@code null} if it is not scheduled
+         */
+        public TimeSlot timeSlot() {
+            requireType(true);
+            long start = startSeconds[index];
+            if (start == NO_TIME_SLOT)
+                return null;
+            return TimeSlot.of(
+                    Instant.ofEpochSecond(start, startNanos == null ? 0 : startNanos[index]),
+                    Instant.ofEpochSecond(endSeconds[index], endNanos == null ? 0 : endNanos[index])
+            ).getValue();
+        }
+
+        public VideoPlatform videoPlatform() {
+            requireType(false);
+            return MeetingCodec.videoPlatform(ordinals[index]);
+        }
+
+        public VideoLink videoLink() {
+            requireType(false);
+            return videoLinks.valueOf(videoLinkIds[index]);
+        }
+
+        public String title() {
+            return titles.valueOf(titleIds[index]);
+        }
+
+        public CorporateContact contact() {
+            return contacts.valueOf(contactIds[index]);
+        }
+
+        /**
+         * Rebuilds the meeting through the same checks as {@code InPersonMeeting.of} and {@code OnlineMeeting.of}.
+         */
+        public Meeting toMeeting() {
+            ValidationResult<Meeting> meeting = isInPerson()
+                    ? InPersonMeeting.validate(title(), contact().email, meetingRoom(), numberOfGuests(), timeSlot())
+                    : OnlineMeeting.validate(title(), contact().email, videoPlatform(), videoLink());
+            if (meeting.hasFailedValidation())
+                throw new IllegalStateException("Invalid meeting in row %d: %s".formatted(index, meeting.getError().getMessage()));
+            return meeting.getValue();
+        }
+
+        private void requireType(boolean inPerson) {
+            if (isInPerson() != inPerson)
+                throw new IllegalStateException("Not an %s meeting".formatted(inPerson ? "in-person" : "online"));
+        }
+    }
+
+    /**
+     * Assigns consecutive ids to distinct values, in order of first appearance.
+     */
+    private static final class Dictionary<T> {
+        private final Map<T, Integer> ids = new HashMap<>();
+        private final List<T> values = new ArrayList<>();
+
+        int idOf(T value) {
+            Integer id = ids.get(value);
+            if (id != null)
+                return id;
+            ids.put(value, values.size());
+            values.add(value);
+            return values.size() - 1;
+        }
+
+        T valueOf(int id) {
+            return values.get(id);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package sbuch.presentation.examples.meeting.core;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Lazy view over a meeting encoded by {@link MeetingCodec}: every accessor reads its field in place,
+ * skipping the ones before it, and nothing is decoded until asked for.
+ */
+public final class MeetingView {
+    private final ByteBuffer buffer;
+    private final int start;
+
+    MeetingView(ByteBuffer buffer, int start) {
+        this.buffer = buffer;
+        this.start = start;
+        byte tag = buffer.get(start);
+        if (tag != MeetingCodec.IN_PERSON && tag != MeetingCodec.ONLINE)
+            throw new IllegalArgumentException("Malformed meeting record: unknown type tag %d".formatted(tag));
+    }
+
+    public boolean isInPerson() {
+        return buffer.get(start) == MeetingCodec.IN_PERSON;
+    }
+
+    public MeetingRoom meetingRoom() {
+        requireType(true);
+        return MeetingCodec.meetingRoom(buffer.get(start + 1));
+    }
+
+    public int numberOfGuests() {
+        requireType(true);
+        return MeetingCodec.getVarint(buffer, start + 2);
+    }
+
+    /**
+     * @return the time slot of the meeting, or {@code null} if it is not scheduled
+     */
+    public TimeSlot timeSlot() {
+        requireType(true);
+        return MeetingCodec.getTimeSlot(buffer, timeSlotIndex());
+    }
+
+    public VideoPlatform videoPlatform() {
+        requireType(false);
+        return MeetingCodec.videoPlatform(buffer.get(start + 1));
+    }
+
+    public String title() {
+        return MeetingCodec.getString(buffer, titleIndex());
+    }
+
+    public String contactEmail() {
+        return MeetingCodec.getString(buffer, MeetingCodec.skipString(buffer, titleIndex()));
+    }
+
+    public VideoLink videoLink() {
+        requireType(false);
+        int index = MeetingCodec.skipString(buffer, MeetingCodec.skipString(buffer, titleIndex()));
+        return MeetingCodec.videoLink(MeetingCodec.getString(buffer, index));
+    }
+
+    public Meeting toMeeting() {
+        return MeetingCodec.decode(buffer.duplicate().position(start));
+    }
+
+    private int titleIndex() {
+        if (!isInPerson())
+            return start + 2;
+        return MeetingCodec.skipTimeSlot(buffer, timeSlotIndex());
+    }
+
+    private int timeSlotIndex() {
+        return start + 2 + MeetingCodec.varintSize(MeetingCodec.getVarint(buffer, start + 2));
+    }
+
+    private void requireType(boolean inPerson) {
+        if (isInPerson() != inPerson)
+            throw new IllegalStateException("Not an %s meeting".formatted(inPerson ? "in-person" : "online"));
+    }
+}
@@ -2,30 +2,46 @@ package sbuch.presentation.examples.meeting.core;
 
 import lombok.EqualsAndHashCode;
 
-import java.net.URL;
-
 @EqualsAndHashCode(callSuper = false)
 public final class OnlineMeeting implements Meeting {
     public final String title;
     public final CorporateContact contact;
 
     public final VideoPlatform videoPlatform;
-    public final URL videoLink;
+    public final VideoLink videoLink;
 
-    private OnlineMeeting(String title, CorporateContact contact, VideoPlatform videoPlatform, URL videoLink) {
+    OnlineMeeting(String title, CorporateContact contact, VideoPlatform videoPlatform, VideoLink videoLink) {
         this.title = title;
         this.contact = contact;
         this.videoPlatform = videoPlatform;
         this.videoLink = videoLink;
     }
 
-    public static ValidationResult<Meeting> of(String title, String email, VideoPlatform videoPlatform, URL videoLink) {
+    public static ValidationResult<Meeting> of(String title, String email, VideoPlatform videoPlatform, VideoLink videoLink) {
+        MeetingDomainValidationEvent event = new MeetingDomainValidationEvent();
+        event.begin();
+        ValidationResult<Meeting> result = validate(title, email, videoPlatform, videoLink);
+        event.finish("online", result);
+        return result;
+    }
+
+    /**
+     * Same checks as {@code of}, without emitting a validation event: used to rebuild stored meetings.
+     */
+    static ValidationResult<Meeting> validate(String title, String email, VideoPlatform videoPlatform, VideoLink videoLink) {
         ValidationResult<CorporateContact> validationResult = CorporateContact.of(email);
         if (validationResult.hasFailedValidation()) {
-            return ValidationResult.failure(validationResult.getError().getMessage());
+            return ValidationResult.failure(validationResult.getError());
         }
         CorporateContact contact = validationResult.getValue();
 
+        if (videoLink == null) {
+            return ValidationResult.failure(ErrorCode.INVALID_VIDEO_LINK, "null");
+        }
+        if (!videoLink.isHostedOn(videoPlatform)) {
+            return ValidationResult.failure(ErrorCode.FOREIGN_VIDEO_LINK, videoPlatform, videoPlatform.domain, videoLink);
+        }
+
         return ValidationResult.success(new OnlineMeeting(title, contact, videoPlatform, videoLink));
     }
 
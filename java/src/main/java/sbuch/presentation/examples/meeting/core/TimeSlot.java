@@ -0,0 +1,35 @@
+package sbuch.presentation.examples.meeting.core;
+
+import lombok.EqualsAndHashCode;
+
+import java.time.Instant;
+
+/**
+ * Half-open time interval {@code [start, end)} during which a meeting takes place.
+ */
+@EqualsAndHashCode(callSuper = false)
+public final class TimeSlot {
+    public final Instant start;
+    public final Instant end;
+
+    private TimeSlot(Instant start, Instant end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    public static ValidationResult<TimeSlot> of(Instant start, Instant end) {
+        if (!start.isBefore(end)) {
+            return ValidationResult.failure(ErrorCode.INVALID_TIME_SLOT, start, end);
+        }
+        return ValidationResult.success(new TimeSlot(start, end));
+    }
+
+    public boolean overlaps(TimeSlot other) {
+        return start.isBefore(other.end) && other.start.isBefore(end);
+    }
+
+    @Override
+    public String toString() {
+        return "[%s, %s)".formatted(start, end);
+    }
+}
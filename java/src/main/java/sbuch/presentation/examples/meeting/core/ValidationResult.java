@@ -1,8 +1,13 @@
 package sbuch.presentation.examples.meeting.core;
 
-import lombok.EqualsAndHashCode;
+import java.util.Arrays;
 
 public final class ValidationResult<T> {
+    private static final Object[] NO_ARGUMENTS = {};
+    private static final ValidationResult<?>[] SHARED_FAILURES = Arrays.stream(ErrorCode.values())
+            .map(code -> code.arity() == 0 ? new ValidationResult<>(null, new ValidationError(code, NO_ARGUMENTS)) : null)
+            .toArray(ValidationResult<?>[]::new);
+
     private final T value;
     private final ValidationError error;
 
@@ -36,10 +41,78 @@ public final class ValidationResult<T> {
         return new ValidationResult<>(null, new ValidationError(message));
     }
 
-    @EqualsAndHashCode(callSuper = false)
+    @SuppressWarnings("unchecked")
+    public static <T> ValidationResult<T> failure(ErrorCode code) {
+        ValidationResult<?> shared = SHARED_FAILURES[code.ordinal()];
+        if (shared == null)
+            throw new IllegalArgumentException("%s expects %d arguments".formatted(code, code.arity()));
+        return (ValidationResult<T>) shared;
+    }
+
+    public static <T> ValidationResult<T> failure(ErrorCode code, Object... args) {
+        if (args.length == 0)
+            return failure(code);
+        if (args.length != code.arity())
+            throw new IllegalArgumentException("%s expects %d arguments".formatted(code, code.arity()));
+        return new ValidationResult<>(null, new ValidationError(code, args));
+    }
+
+    public static <T> ValidationResult<T> failure(ValidationError error) {
+        return new ValidationResult<>(null, error);
+    }
+
+    /**
+     * Failure of a validation. It is never meant to be thrown, so it captures no stack trace,
+     * and its message is only rendered when it is read.
+     * Two errors are equal when their messages are.
+     */
     public static final class ValidationError extends RuntimeException {
+        private final ErrorCode code;
+        private final Object[] args;
+        private String message;
+
         public ValidationError(final String message) {
-            super(message);
+            this(ErrorCode.MESSAGE, new Object[]{message});
+        }
+
+        private ValidationError(ErrorCode code, Object[] args) {
+            super(null, null, false, false);
+            this.code = code;
+            this.args = args;
+        }
+
+        public ErrorCode getCode() {
+            return code;
+        }
+
+        public int getArgumentCount() {
+            return args.length;
+        }
+
+        public Object getArgument(int index) {
+            return args[index];
+        }
+
+        @Override
+        public String getMessage() {
+            String rendered = message;
+            if (rendered == null) {
+                rendered = code.render(args);
+                message = rendered;
+            }
+            return rendered;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this)
+                return true;
+            return o instanceof ValidationError other && getMessage().equals(other.getMessage());
+        }
+
+        @Override
+        public int hashCode() {
+            return getMessage().hashCode();
         }
     }
 }
@@ -0,0 +1,96 @@
+package sbuch.presentation.examples.meeting.core;
+
+import lombok.EqualsAndHashCode;
+
+import java.util.Locale;
+
+/**
+ * Absolute {@code http} or {@code https} link to a video call.
+ * <p>
+ * Unlike {@link java.net.URL}, a link is compared on its text only: equality and hashing never resolve the host.
+ */
+@EqualsAndHashCode(callSuper = false, onlyExplicitlyIncluded = true)
+public final class VideoLink {
+    private static final int MAX_HOST_LENGTH = 253;
+    private static final int MAX_LABEL_LENGTH = 63;
+
+    @EqualsAndHashCode.Include
+    public final String value;
+    /**
+     * Lower-case host name of the link.
+     */
+    public final String host;
+
+    private VideoLink(String value, String host) {
+        this.value = value;
+        this.host = host;
+    }
+
+    public static ValidationResult<VideoLink> of(String value) {
+        if (value == null)
+            return ValidationResult.failure(ErrorCode.INVALID_VIDEO_LINK, "null");
+
+        int hostStart;
+        if (value.regionMatches(true, 0, "https://", 0, 8))
+            hostStart = 8;
+        else if (value.regionMatches(true, 0, "http://", 0, 7))
+            hostStart = 7;
+        else
+            return ValidationResult.failure(ErrorCode.INVALID_VIDEO_LINK, value);
+
+        int length = value.length();
+        int hostEnd = hostStart;
+        while (hostEnd < length && isHostChar(value.charAt(hostEnd))) {
+            hostEnd++;
+        }
+        if (!isValidHost(value, hostStart, hostEnd))
+            return ValidationResult.failure(ErrorCode.INVALID_VIDEO_LINK, value);
+
+        int rest = hostEnd;
+        if (rest < length && value.charAt(rest) == ':') {
+            int portEnd = rest + 1;
+            while (portEnd < length && value.charAt(portEnd) >= '0' && value.charAt(portEnd) <= '9') {
+                portEnd++;
+            }
+            if (portEnd == rest + 1 || portEnd - rest > 6 || Integer.parseInt(value, rest + 1, portEnd, 10) > 0xFFFF)
+                return ValidationResult.failure(ErrorCode.INVALID_VIDEO_LINK, value);
+            rest = portEnd;
+        }
+        if (rest < length && "/?#".indexOf(value.charAt(rest)) < 0)
+            return ValidationResult.failure(ErrorCode.INVALID_VIDEO_LINK, value);
+        for (int i = rest; i < length; i++) {
+            char c = value.charAt(i);
+            if (c <= ' ' || c == 0x7F || Character.isWhitespace(c))
+                return ValidationResult.failure(ErrorCode.INVALID_VIDEO_LINK, value);
+        }
+
+        return ValidationResult.success(new VideoLink(value, value.substring(hostStart, hostEnd).toLowerCase(Locale.ROOT)));
+    }
+
+    public boolean isHostedOn(VideoPlatform videoPlatform) {
+        return videoPlatform.acceptsHost(host);
+    }
+
+    private static boolean isHostChar(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '-' || c == '.';
+    }
+
+    private static boolean isValidHost(String value, int start, int end) {
+        if (end == start || end - start > MAX_HOST_LENGTH)
+            return false;
+        int labelStart = start;
+        for (int i = start; i <= end; i++) {
+            if (i < end && value.charAt(i) != '.')
+                continue;
+            if (i == labelStart || i - labelStart > MAX_LABEL_LENGTH || value.charAt(labelStart) == '-' || value.charAt(i - 1) == '-')
+                return false;
+            labelStart = i + 1;
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
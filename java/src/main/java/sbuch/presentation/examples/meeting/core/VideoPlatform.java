@@ -1,9 +1,27 @@
 package sbuch.presentation.examples.meeting.core;
 
+import java.util.regex.Pattern;
+
 public enum VideoPlatform {
-    ZOOM,
-    MEET,
-    TEAMS;
+    ZOOM("zoom.us"),
+    MEET("meet.google.com"),
+    TEAMS("teams.microsoft.com");
+
+    public final String domain;
+    private final Pattern hosts;
+
+    VideoPlatform(String domain) {
+        this.domain = domain;
+        this.hosts = Pattern.compile("(?:[a-z0-9-]+\\.)*" + Pattern.quote(domain));
+    }
+
+    /**
+     * @param host lower-case host name
+     * @return whether the host is the domain of the platform, or one of its subdomains
+     */
+    boolean acceptsHost(String host) {
+        return hosts.matcher(host).matches();
+    }
 
     @Override
     public String toString() {
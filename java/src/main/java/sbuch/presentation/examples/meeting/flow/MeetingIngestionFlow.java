@@ -0,0 +1,80 @@
+package sbuch.presentation.examples.meeting.flow;
+
+import sbuch.presentation.examples.meeting.MeetingExample;
+import sbuch.presentation.examples.meeting.core.Meeting;
+import sbuch.presentation.examples.meeting.core.ValidationResult;
+import sbuch.presentation.examples.meeting.framework.MeetingFramework;
+import sbuch.presentation.examples.meeting.framework.MeetingIngestionPipeline;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+/**
+ * Reactive ingestion of raw JSON payloads: parse and framework validation, then domain validation, then saving.
+ * Each stage is a {@link StageProcessor} with its own buffer and parallelism, so a slow repository holds back the
+ * validation stages, and eventually the source, instead of letting payloads pile up.
+ * <p>
+ * Every payload produces one result, rejected payloads included, in no particular order.
+ */
+public final class MeetingIngestionFlow implements Flow.Processor<String, ValidationResult<Meeting>> {
+    private final StageProcessor<String, ValidationResult<MeetingFramework>> parse;
+    private final StageProcessor<ValidationResult<MeetingFramework>, ValidationResult<Meeting>> validate;
+    private final StageProcessor<ValidationResult<Meeting>, ValidationResult<Meeting>> save;
+
+    public MeetingIngestionFlow(MeetingIngestionPipeline pipeline,
+                                MeetingExample repository,
+                                Executor executor,
+                                StageProcessor.Settings parseSettings,
+                                StageProcessor.Settings validateSettings,
+                                StageProcessor.Settings saveSettings) {
+        this.parse = new StageProcessor<>("parse", pipeline::createMeetingFromRaw, executor, parseSettings);
+        this.validate = new StageProcessor<>("validate", MeetingIngestionFlow::toMeeting, executor, validateSettings);
+        this.save = new StageProcessor<>("save", meeting -> {
+            if (!meeting.hasFailedValidation())
+                repository.saveToRepo(meeting.getValue());
+            return meeting;
+        }, executor, saveSettings);
+
+        parse.subscribe(validate);
+        validate.subscribe(save);
+    }
+
+    private static ValidationResult<Meeting> toMeeting(ValidationResult<MeetingFramework> framework) {
+        if (framework.hasFailedValidation())
+            return ValidationResult.failure(framework.getError());
+        return MeetingExample.createMeetingFromFrameworkValidated(framework.getValue());
+    }
+
+    /**
+     * @return the stages, from the source to the subscriber
+     */
+    public List<StageProcessor<?, ?>> stages() {
+        return List.of(parse, validate, save);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        parse.onSubscribe(subscription);
+    }
+
+    @Override
+    public void onNext(String rawJson) {
+        parse.onNext(rawJson);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        parse.onError(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        parse.onComplete();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ValidationResult<Meeting>> subscriber) {
+        save.subscribe(subscriber);
+    }
+}
@@ -0,0 +1,276 @@
+package sbuch.presentation.examples.meeting.flow;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Processing stage applying a function to every item, with up to {@code parallelism} items processed at once on the
+ * given executor. Results are emitted in completion order.
+ * <p>
+ * A stage never holds more than {@code bufferSize} items, whether queued, in flight or waiting for downstream demand:
+ * it requests that many items when subscribed, then one more from upstream each time a result is emitted downstream.
+ * A slow downstream therefore stops the flow of items from upstream once the buffer is full.
+ * Signals to the subscriber are serialized by a single drain loop, run by whichever thread has something to signal.
+ */
+public final class StageProcessor<T, R> implements Flow.Processor<T, R> {
+
+    /**
+     * @param parallelism maximum number of items processed at once
+     * @param bufferSize  maximum number of items held by the stage
+     */
+    public record Settings(int parallelism, int bufferSize) {
+        public Settings {
+            if (parallelism < 1)
+                throw new IllegalArgumentException("parallelism must be positive, got %d".formatted(parallelism));
+            if (bufferSize < 1)
+                throw new IllegalArgumentException("bufferSize must be positive, got %d".formatted(bufferSize));
+        }
+    }
+
+    private final String name;
+    private final Function<? super T, ? extends R> function;
+    private final Executor executor;
+    private final int parallelism;
+    private final int bufferSize;
+
+    private final Queue<T> input = new ConcurrentLinkedQueue<>();
+    private final Queue<R> output = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger held = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger awaitingDemand = new AtomicInteger();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicReference<Flow.Subscriber<? super R>> downstream = new AtomicReference<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    private volatile Flow.Subscription upstream;
+    private volatile boolean upstreamDone;
+    private volatile Throwable upstreamError;
+    private volatile boolean cancelled;
+
+    // drain loop only
+    private boolean terminated;
+
+    public StageProcessor(String name, Function<? super T, ? extends R> function, Executor executor, Settings settings) {
+        this.name = name;
+        this.function = function;
+        this.executor = executor;
+        this.parallelism = settings.parallelism();
+        this.bufferSize = settings.bufferSize();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return number of received items waiting to be processed
+     */
+    public int queueDepth() {
+        return queued.get();
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return number of results waiting for downstream demand
+     */
+    public int awaitingDemand() {
+        return awaitingDemand.get();
+    }
+
+    /**
+     * @return number of items held by the stage, at most its buffer size
+     */
+    public int depth() {
+        return held.get();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (upstream != null || cancelled) {
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        subscription.request(bufferSize);
+    }
+
+    @Override
+    public void onNext(T item) {
+        Objects.requireNonNull(item);
+        held.incrementAndGet();
+        queued.incrementAndGet();
+        input.offer(item);
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        upstreamError = throwable;
+        upstreamDone = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        upstreamDone = true;
+        drain();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super R> subscriber) {
+        Objects.requireNonNull(subscriber);
+        if (!downstream.compareAndSet(null, subscriber)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("Stage %s already has a subscriber".formatted(name)));
+            return;
+        }
+
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    failure.compareAndSet(null, new IllegalArgumentException("Requested %d items from stage %s, demand must be positive".formatted(n, name)));
+                } else {
+                    requested.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+                }
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+                Flow.Subscription subscription = upstream;
+                if (subscription != null)
+                    subscription.cancel();
+                drain();
+            }
+        });
+        drain();
+    }
+
+    private void process(T item) {
+        try {
+            R result = Objects.requireNonNull(function.apply(item), () -> "Stage %s produced a null result".formatted(name));
+            awaitingDemand.incrementAndGet();
+            output.offer(result);
+        } catch (RuntimeException | Error e) {
+            failure.compareAndSet(null, e);
+        } finally {
+            inFlight.decrementAndGet();
+            drain();
+        }
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0)
+            return;
+
+        int missed = 1;
+        do {
+            if (cancelled) {
+                clear();
+            } else if (!terminated) {
+                dispatch();
+                emit();
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void dispatch() {
+        while (failure.get() == null && inFlight.get() < parallelism) {
+            T item = input.poll();
+            if (item == null)
+                return;
+            queued.decrementAndGet();
+            inFlight.incrementAndGet();
+            try {
+                executor.execute(() -> process(item));
+            } catch (RejectedExecutionException e) {
+                inFlight.decrementAndGet();
+                failure.compareAndSet(null, e);
+            }
+        }
+    }
+
+    private void emit() {
+        Flow.Subscriber<? super R> subscriber = downstream.get();
+        if (subscriber == null)
+            return;
+
+        Throwable failed = failure.get();
+        if (failed != null) {
+            terminated = true;
+            Flow.Subscription subscription = upstream;
+            if (subscription != null)
+                subscription.cancel();
+            clear();
+            subscriber.onError(failed);
+            return;
+        }
+
+        long demand = requested.get();
+        long emitted = 0;
+        while (emitted != demand && !cancelled) {
+            R result = output.poll();
+            if (result == null)
+                break;
+            awaitingDemand.decrementAndGet();
+            held.decrementAndGet();
+            subscriber.onNext(result);
+            emitted++;
+        }
+        if (emitted > 0) {
+            if (demand != Long.MAX_VALUE)
+                requested.addAndGet(-emitted);
+            if (!upstreamDone && !cancelled)
+                upstream.request(emitted);
+        }
+
+        if (upstreamDone && held.get() == 0 && !cancelled) {
+            terminated = true;
+            Throwable error = upstreamError;
+            if (error != null)
+                subscriber.onError(error);
+            else
+                subscriber.onComplete();
+        }
+    }
+
+    private void clear() {
+        while (input.poll() != null) {
+            queued.decrementAndGet();
+            held.decrementAndGet();
+        }
+        while (output.poll() != null) {
+            awaitingDemand.decrementAndGet();
+            held.decrementAndGet();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "StageProcessor[%s: queued=%d, inFlight=%d, awaitingDemand=%d]".formatted(name, queueDepth(), inFlight(), awaitingDemand());
+    }
+}
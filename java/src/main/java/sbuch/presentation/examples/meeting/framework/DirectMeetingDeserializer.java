@@ -0,0 +1,84 @@
+package sbuch.presentation.examples.meeting.framework;
+
+import sbuch.presentation.examples.meeting.core.ErrorCode;
+import sbuch.presentation.examples.meeting.core.InPersonMeeting;
+import sbuch.presentation.examples.meeting.core.Meeting;
+import sbuch.presentation.examples.meeting.core.MeetingRoom;
+import sbuch.presentation.examples.meeting.core.OnlineMeeting;
+import sbuch.presentation.examples.meeting.core.ValidationResult;
+import sbuch.presentation.examples.meeting.core.VideoLink;
+import sbuch.presentation.examples.meeting.core.VideoPlatform;
+import sbuch.presentation.examples.meeting.metrics.IngestionMetrics;
+import sbuch.presentation.examples.meeting.metrics.Rejection;
+
+/**
+ * Decodes raw JSON straight into a {@link Meeting}, in a single pass over the document.
+ * <p>
+ * Once the fields are read, the constraints declared on {@link MeetingFramework} are checked on them directly, without
+ * building the record, then {@link InPersonMeeting#of} or {@link OnlineMeeting#of} builds the meeting, so that the
+ * outcome is the same as deserializing, validating and converting in three steps.
+ */
+final class DirectMeetingDeserializer extends MeetingJsonDeserializer<ValidationResult<Meeting>> {
+    private final IngestionMetrics metrics;
+
+    DirectMeetingDeserializer(IngestionMetrics metrics) {
+        super(ValidationResult.class);
+        this.metrics = metrics;
+    }
+
+    @Override
+    ValidationResult<Meeting> inPerson(String title, String contactEmail, MeetingRoom meetingRoom, int numberOfGuests) {
+        MeetingBeanValidationEvent event = new MeetingBeanValidationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        boolean valid = isNotBlank(title) && isEmailAddress(contactEmail) && meetingRoom != null && numberOfGuests >= 1;
+        if (!checked("in_person", valid, meetingRoom == null ? Rejection.UNKNOWN_MEETING_ROOM : Rejection.INVALID_FIELDS, event, start))
+            return ValidationResult.failure(ErrorCode.INVALID_RAW_OBJECT);
+
+        start = System.nanoTime();
+        return counted(InPersonMeeting.of(title, contactEmail, meetingRoom, numberOfGuests), start);
+    }
+
+    @Override
+    ValidationResult<Meeting> online(String title, String contactEmail, VideoPlatform videoPlatform, VideoLink videoLink) {
+        MeetingBeanValidationEvent event = new MeetingBeanValidationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        boolean valid = isNotBlank(title) && isEmailAddress(contactEmail) && videoPlatform != null && videoLink != null;
+        if (!checked("online", valid, videoPlatform == null ? Rejection.UNKNOWN_VIDEO_PLATFORM : Rejection.INVALID_FIELDS, event, start))
+            return ValidationResult.failure(ErrorCode.INVALID_RAW_OBJECT);
+
+        start = System.nanoTime();
+        return counted(OnlineMeeting.of(title, contactEmail, videoPlatform, videoLink), start);
+    }
+
+    // @NotBlank: not null, and not empty once trimmed
+    private static boolean isNotBlank(String value) {
+        if (value == null)
+            return false;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ')
+                return true;
+        }
+        return false;
+    }
+
+    // @NotNull @EmailAddress
+    private static boolean isEmailAddress(String value) {
+        return value != null && EmailAddressValidator.isValid(value);
+    }
+
+    private boolean checked(String meetingType, boolean valid, Rejection rejection, MeetingBeanValidationEvent event, long start) {
+        metrics.recordFrameworkValidation(System.nanoTime() - start);
+        event.finish(meetingType, valid, -1);
+        if (!valid)
+            metrics.reject(rejection);
+        return valid;
+    }
+
+    private ValidationResult<Meeting> counted(ValidationResult<Meeting> result, long start) {
+        metrics.recordDomainValidation(System.nanoTime() - start);
+        metrics.count(result);
+        return result;
+    }
+}
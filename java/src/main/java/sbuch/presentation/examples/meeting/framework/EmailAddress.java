@@ -0,0 +1,26 @@
+package sbuch.presentation.examples.meeting.framework;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Well-formed email address, checked with the same parser as {@link sbuch.presentation.examples.meeting.core.CorporateContact}.
+ * Only the syntax is checked here: the corporate domain and username rules belong to the domain layer.
+ */
+@Documented
+@Constraint(validatedBy = EmailAddressValidator.class)
+@Target({ElementType.METHOD, ElementType.FIELD, ElementType.ANNOTATION_TYPE, ElementType.CONSTRUCTOR, ElementType.PARAMETER, ElementType.TYPE_USE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EmailAddress {
+    String message() default "must be a well-formed email address";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,16 @@
+package sbuch.presentation.examples.meeting.framework;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import sbuch.presentation.examples.meeting.core.CorporateEmail;
+
+public class EmailAddressValidator implements ConstraintValidator<EmailAddress, String> {
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        return isValid(value);
+    }
+
+    public static boolean isValid(String value) {
+        return value == null || CorporateEmail.isWellFormed(CorporateEmail.parse(value));
+    }
+}
@@ -0,0 +1,92 @@
+package sbuch.presentation.examples.meeting.framework;
+
+import java.util.Arrays;
+
+/**
+ * Maps symbols to enum constants, looked up straight from a character buffer so that no {@link String} is built.
+ * <p>
+ * The table is an immutable open-addressing hash table, replaced as a whole when a symbol is added,
+ * so that lookups never lock.
+ */
+final class EnumSymbolTable<E extends Enum<E>> {
+    private volatile Table<E> table = new Table<>(new char[8][], new Object[8]);
+
+    E lookup(char[] buffer, int offset, int length) {
+        Table<E> current = table;
+        int mask = current.symbols.length - 1;
+        for (int slot = hash(buffer, offset, length) & mask; ; slot = (slot + 1) & mask) {
+            char[] symbol = current.symbols[slot];
+            if (symbol == null)
+                return null;
+            if (Arrays.equals(symbol, 0, symbol.length, buffer, offset, offset + length))
+                return current.value(slot);
+        }
+    }
+
+    E lookup(String symbol) {
+        return lookup(symbol.toCharArray(), 0, symbol.length());
+    }
+
+    /**
+     * @throws IllegalArgumentException if the symbol is already mapped to another constant
+     */
+    synchronized EnumSymbolTable<E> put(String symbol, E value) {
+        E existing = lookup(symbol);
+        if (existing == value)
+            return this;
+        if (existing != null)
+            throw new IllegalArgumentException("'%s' already stands for %s, not %s".formatted(symbol, existing, value));
+
+        Table<E> current = table;
+        int size = 1;
+        for (char[] s : current.symbols) {
+            if (s != null)
+                size++;
+        }
+        int capacity = current.symbols.length;
+        while (capacity < size * 2) {
+            capacity <<= 1;
+        }
+
+        Table<E> next = new Table<>(new char[capacity][], new Object[capacity]);
+        for (int slot = 0; slot < current.symbols.length; slot++) {
+            if (current.symbols[slot] != null)
+                next.insert(current.symbols[slot], current.values[slot]);
+        }
+        next.insert(symbol.toCharArray(), value);
+        table = next;
+        return this;
+    }
+
+    /**
+     * Makes this table hold the same symbols as the other one, in a single step.
+     */
+    synchronized void resetTo(EnumSymbolTable<E> other) {
+        table = other.table;
+    }
+
+    private static int hash(char[] buffer, int offset, int length) {
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + buffer[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private record Table<E>(char[][] symbols, Object[] values) {
+        @SuppressWarnings("unchecked")
+        E value(int slot) {
+            return (E) values[slot];
+        }
+
+        void insert(char[] symbol, Object value) {
+            int mask = symbols.length - 1;
+            int slot = hash(symbol, 0, symbol.length) & mask;
+            while (symbols[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            symbols[slot] = symbol;
+            values[slot] = value;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package sbuch.presentation.examples.meeting.framework;
+
+import java.util.Optional;
+
+/**
+ * Constraint check generated at build time by
+ * {@link sbuch.presentation.examples.meeting.framework.processor.ConstraintValidatorProcessor}.
+ */
+public interface GeneratedValidator<T> {
+    boolean isValid(T value);
+
+    @SuppressWarnings("unchecked")
+    static <T> Optional<GeneratedValidator<T>> find(Class<T> type) {
+        String packageName = type.getPackageName();
+        String simpleBinaryName = type.getName().substring(packageName.isEmpty() ? 0 : packageName.length() + 1);
+        String validatorName = (packageName.isEmpty() ? "" : packageName + ".") + simpleBinaryName.replace('$', '_') + "Validator";
+
+        try {
+            Class<?> validatorClass = Class.forName(validatorName, true, type.getClassLoader());
+            return Optional.of((GeneratedValidator<T>) validatorClass.getConstructor().newInstance());
+        } catch (ReflectiveOperationException | LinkageError ignored) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package sbuch.presentation.examples.meeting.framework;
+
+import sbuch.presentation.examples.meeting.core.ValidationResult;
+
+/**
+ * Outcome of one record read from a batch input.
+ *
+ * @param index      zero-based position of the record in the input
+ * @param lineNumber one-based line on which the record starts
+ * @param byteOffset offset, in bytes, of the first byte of the record
+ * @param result     validation outcome of the record
+ */
+public record IngestedRecord(
+        long index,
+        long lineNumber,
+        long byteOffset,
+        ValidationResult<MeetingFramework> result
+) {
+}
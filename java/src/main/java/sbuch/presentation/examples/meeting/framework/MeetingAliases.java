@@ -0,0 +1,110 @@
+package sbuch.presentation.examples.meeting.framework;
+
+import sbuch.presentation.examples.meeting.core.MeetingRoom;
+import sbuch.presentation.examples.meeting.core.VideoPlatform;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Names accepted in raw JSON for the {@code meetingRoom} and {@code videoPlatform} fields.
+ * <p>
+ * Besides the built-in names, aliases can be registered at runtime, or listed in the properties file named by the
+ * {@value #ALIASES_FILE_PROPERTY} system property, as {@code meetingRoom.<alias>=<MeetingRoom>} and
+ * {@code videoPlatform.<alias>=<VideoPlatform>} entries. A file that cannot be read or holds an invalid entry is
+ * logged and ignored as a whole, leaving the built-in names only.
+ */
+public final class MeetingAliases {
+    public static final String ALIASES_FILE_PROPERTY = "sbuch.meeting.aliasesFile";
+
+    private static final Logger LOGGER = Logger.getLogger(MeetingAliases.class.getName());
+    private static final EnumSymbolTable<MeetingRoom> BUILT_IN_MEETING_ROOMS = new EnumSymbolTable<MeetingRoom>()
+            .put("small", MeetingRoom.ROOM_101)
+            .put("medium", MeetingRoom.ROOM_42)
+            .put("large", MeetingRoom.AMPHITHEATER);
+    private static final EnumSymbolTable<VideoPlatform> BUILT_IN_VIDEO_PLATFORMS = new EnumSymbolTable<VideoPlatform>()
+            .put("zoom", VideoPlatform.ZOOM)
+            .put("meet", VideoPlatform.MEET)
+            .put("teams", VideoPlatform.TEAMS);
+
+    static final EnumSymbolTable<MeetingRoom> MEETING_ROOMS = new EnumSymbolTable<>();
+    static final EnumSymbolTable<VideoPlatform> VIDEO_PLATFORMS = new EnumSymbolTable<>();
+
+    static {
+        reset();
+        String aliasesFile = System.getProperty(ALIASES_FILE_PROPERTY);
+        if (aliasesFile != null) {
+            try {
+                loadFile(Path.of(aliasesFile));
+            } catch (InvalidPathException e) {
+                LOGGER.log(Level.SEVERE, "Ignoring the meeting aliases of " + aliasesFile, e);
+            }
+        }
+    }
+
+    private MeetingAliases() {
+    }
+
+    public static synchronized void addMeetingRoomAlias(String alias, MeetingRoom meetingRoom) {
+        MEETING_ROOMS.put(alias, meetingRoom);
+    }
+
+    public static synchronized void addVideoPlatformAlias(String alias, VideoPlatform videoPlatform) {
+        VIDEO_PLATFORMS.put(alias, videoPlatform);
+    }
+
+    /**
+     * Forgets every alias, keeping the built-in names only.
+     */
+    static synchronized void reset() {
+        MEETING_ROOMS.resetTo(BUILT_IN_MEETING_ROOMS);
+        VIDEO_PLATFORMS.resetTo(BUILT_IN_VIDEO_PLATFORMS);
+    }
+
+    /**
+     * @return {@code false} if the file could not be read or held an invalid entry, and none of its aliases was kept
+     */
+    static boolean loadFile(Path aliasesFile) {
+        Properties aliases = new Properties();
+        try (Reader reader = Files.newBufferedReader(aliasesFile)) {
+            aliases.load(reader);
+            load(aliases);
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.log(Level.SEVERE, "Ignoring the meeting aliases of " + aliasesFile, e);
+            return false;
+        }
+    }
+
+    /**
+     * Adds all the aliases, or none of them: they are put in copies of the tables, which replace the live ones only
+     * once every entry is valid, so lookups never see part of them.
+     *
+     * @throws IllegalArgumentException if an entry is invalid
+     */
+    static synchronized void load(Properties aliases) {
+        EnumSymbolTable<MeetingRoom> nextMeetingRooms = new EnumSymbolTable<>();
+        EnumSymbolTable<VideoPlatform> nextVideoPlatforms = new EnumSymbolTable<>();
+        nextMeetingRooms.resetTo(MEETING_ROOMS);
+        nextVideoPlatforms.resetTo(VIDEO_PLATFORMS);
+
+        for (String key : aliases.stringPropertyNames()) {
+            String value = aliases.getProperty(key).trim();
+            if (key.startsWith("meetingRoom."))
+                nextMeetingRooms.put(key.substring("meetingRoom.".length()), MeetingRoom.valueOf(value));
+            else if (key.startsWith("videoPlatform."))
+                nextVideoPlatforms.put(key.substring("videoPlatform.".length()), VideoPlatform.valueOf(value));
+            else
+                throw new IllegalArgumentException("Unknown meeting alias '%s', expected 'meetingRoom.<alias>' or 'videoPlatform.<alias>'".formatted(key));
+        }
+
+        MEETING_ROOMS.resetTo(nextMeetingRooms);
+        VIDEO_PLATFORMS.resetTo(nextVideoPlatforms);
+    }
+}
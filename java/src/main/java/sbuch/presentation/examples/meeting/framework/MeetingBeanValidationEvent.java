@@ -0,0 +1,41 @@
+package sbuch.presentation.examples.meeting.framework;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("sbuch.meeting.BeanValidation")
+@Label("Meeting Bean Validation")
+@Description("Check of the constraints declared on a deserialized MeetingFramework")
+@Category({"Meeting", "Ingestion"})
+@Threshold("1 ms")
+@StackTrace(false)
+final class MeetingBeanValidationEvent extends jdk.jfr.Event {
+    @Label("Meeting Type")
+    String meetingType;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Payload Size")
+    @DataAmount(DataAmount.BYTES)
+    long payloadSize;
+
+    void finish(MeetingFramework validated, boolean valid, long size) {
+        finish(MeetingEvents.typeOf(validated), valid, size);
+    }
+
+    void finish(String validatedType, boolean valid, long size) {
+        end();
+        if (shouldCommit()) {
+            meetingType = validatedType;
+            outcome = valid ? "valid" : "invalid";
+            payloadSize = size;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package sbuch.presentation.examples.meeting.framework;
+
+import sbuch.presentation.examples.meeting.core.ValidationResult;
+
+/**
+ * Field values of the flight recorder events emitted by {@link MeetingIngestionPipeline}.
+ */
+final class MeetingEvents {
+    private MeetingEvents() {
+    }
+
+    static String typeOf(MeetingFramework meeting) {
+        return switch (meeting) {
+            case MeetingFramework.InPersonMeetingFramework ignored -> "in_person";
+            case MeetingFramework.OnlineMeetingFramework ignored -> "online";
+            case null -> "unknown";
+        };
+    }
+
+    static String outcomeOf(ValidationResult<?> result) {
+        return result.hasFailedValidation() ? result.getError().getCode().name() : "accepted";
+    }
+
+    static long utf8Size(String value) {
+        long size = value.length();
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x800 && !Character.isSurrogate(c))
+                size += 2;
+            else if (c >= 0x80)
+                size++;
+        }
+        return size;
+    }
+}
@@ -5,15 +5,13 @@ import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
-import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import sbuch.presentation.examples.meeting.core.MeetingRoom;
+import sbuch.presentation.examples.meeting.core.VideoLink;
 import sbuch.presentation.examples.meeting.core.VideoPlatform;
 
-import java.net.URL;
-
 @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.PROPERTY, property = "type")
 @JsonSubTypes({
         @JsonSubTypes.Type(value = MeetingFramework.InPersonMeetingFramework.class, name = "in_person"),
@@ -27,7 +25,7 @@ public sealed interface MeetingFramework permits MeetingFramework.InPersonMeetin
             String title,
 
             @NotNull
-            @Email
+            @EmailAddress
             String contactEmail,
 
             @NotNull
@@ -47,7 +45,7 @@ public sealed interface MeetingFramework permits MeetingFramework.InPersonMeetin
             String title,
 
             @NotNull
-            @Email
+            @EmailAddress
             String contactEmail,
 
             @NotNull
@@ -55,7 +53,8 @@ public sealed interface MeetingFramework permits MeetingFramework.InPersonMeetin
             VideoPlatform videoPlatform,
 
             @NotNull
-            URL videoLink
+            @JsonDeserialize(using = VideoLinkDeserializer.class)
+            VideoLink videoLink
     ) implements MeetingFramework {
     }
 }
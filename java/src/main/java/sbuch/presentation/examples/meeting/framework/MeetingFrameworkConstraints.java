@@ -0,0 +1,92 @@
+package sbuch.presentation.examples.meeting.framework;
+
+import jakarta.validation.Configuration;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+/**
+ * Checks the constraints declared on the {@link MeetingFramework} records, with the validators generated at build time
+ * when they are on the class path, and with the Bean Validation provider otherwise.
+ * <p>
+ * The provider is only bootstrapped when the first meeting is checked, and its factory is then kept for the whole
+ * process. It interpolates messages with their parameters only, so that no Expression Language implementation is
+ * loaded; the {@value #MODE_PROPERTY} system property set to {@code bean-validation-el} restores the default
+ * interpolation, and {@code bean-validation} forces the use of the provider even when generated validators are
+ * available. Any other value is logged as a warning and ignored.
+ */
+final class MeetingFrameworkConstraints {
+    static final String MODE_PROPERTY = "sbuch.meeting.constraints";
+
+    private static final Logger LOGGER = Logger.getLogger(MeetingFrameworkConstraints.class.getName());
+
+    private MeetingFrameworkConstraints() {
+    }
+
+    static Predicate<MeetingFramework> generatedOrBeanValidation() {
+        return generatedOrBeanValidation(System.getProperty(MODE_PROPERTY, "generated"));
+    }
+
+    static Predicate<MeetingFramework> generatedOrBeanValidation(String mode) {
+        switch (mode) {
+            case "bean-validation" -> {
+                return beanValidation(false);
+            }
+            case "bean-validation-el" -> {
+                return beanValidation(true);
+            }
+            case "generated" -> {
+            }
+            default -> LOGGER.warning("Unknown %s '%s', using generated validators".formatted(MODE_PROPERTY, mode));
+        }
+
+        Optional<GeneratedValidator<MeetingFramework.InPersonMeetingFramework>> inPerson =
+                GeneratedValidator.find(MeetingFramework.InPersonMeetingFramework.class);
+        Optional<GeneratedValidator<MeetingFramework.OnlineMeetingFramework>> online =
+                GeneratedValidator.find(MeetingFramework.OnlineMeetingFramework.class);
+
+        if (inPerson.isEmpty() || online.isEmpty())
+            return beanValidation();
+        return generated(inPerson.get(), online.get());
+    }
+
+    static Predicate<MeetingFramework> beanValidation() {
+        return beanValidation(false);
+    }
+
+    static Predicate<MeetingFramework> beanValidation(boolean expressionLanguage) {
+        return expressionLanguage
+                ? meeting -> ExpressionLanguageValidator.VALIDATOR.validate(meeting).isEmpty()
+                : meeting -> ParameterValidator.VALIDATOR.validate(meeting).isEmpty();
+    }
+
+    private static Predicate<MeetingFramework> generated(
+            GeneratedValidator<MeetingFramework.InPersonMeetingFramework> inPerson,
+            GeneratedValidator<MeetingFramework.OnlineMeetingFramework> online
+    ) {
+        return meeting -> switch (meeting) {
+            case MeetingFramework.InPersonMeetingFramework inPersonMeeting -> inPerson.isValid(inPersonMeeting);
+            case MeetingFramework.OnlineMeetingFramework onlineMeeting -> online.isValid(onlineMeeting);
+        };
+    }
+
+    private static Validator buildValidator(boolean expressionLanguage) {
+        Configuration<?> configuration = Validation.byDefaultProvider().configure();
+        if (!expressionLanguage)
+            configuration.messageInterpolator(new ParameterMessageInterpolator());
+        return configuration.buildValidatorFactory().getValidator();
+    }
+
+    // The factories behind these validators are shared by every pipeline and live as long as the process
+    private static final class ParameterValidator {
+        static final Validator VALIDATOR = buildValidator(false);
+    }
+
+    private static final class ExpressionLanguageValidator {
+        static final Validator VALIDATOR = buildValidator(true);
+    }
+}
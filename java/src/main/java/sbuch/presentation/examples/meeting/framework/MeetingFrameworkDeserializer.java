@@ -1,50 +1,40 @@
 package sbuch.presentation.examples.meeting.framework;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validation;
-import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
 import sbuch.presentation.examples.meeting.core.ValidationResult;
 
-import java.io.IOException;
-import java.util.Set;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.stream.Stream;
 
 public class MeetingFrameworkDeserializer {
     private MeetingFrameworkDeserializer() {
     }
 
+    /**
+     * Initializes the shared pipeline ahead of the first request: builds its JSON readers and constraint checks,
+     * bootstrapping the Bean Validation provider if it is used, and warms them up.
+     */
+    public static void prewarm() {
+        MeetingIngestionPipeline.shared().warmUp();
+    }
+
     public static ValidationResult<MeetingFramework> createMeetingFromRaw(String rawJson) {
-        var mapper = new ObjectMapper();
-
-        try {
-            // Deserialize the JSON
-            MeetingFramework deserialized = mapper.readValue(rawJson, MeetingFramework.class);
-            if (deserialized == null)
-                return ValidationResult.failure("Raw object is not valid");
-
-            // Create a validator
-            Validator validator;
-            try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
-                validator = factory.getValidator();
-            }
-
-            // Validate the deserialized object
-            Set<ConstraintViolation<MeetingFramework>> violations = validator.validate(deserialized);
-
-            // If there are validation errors, return a failure result
-            if (!violations.isEmpty()) {
-                return validationError();
-            }
-
-            // If validation passes, return a success result
-            return ValidationResult.success(deserialized);
-        } catch (IOException ignored) {
-            return validationError();
-        }
+        return MeetingIngestionPipeline.shared().createMeetingFromRaw(rawJson);
+    }
+
+    public static ValidationResult<MeetingFramework> createMeetingFromRaw(byte[] rawJson, int offset, int length) {
+        return MeetingIngestionPipeline.shared().createMeetingFromRaw(rawJson, offset, length);
+    }
+
+    public static ValidationResult<MeetingFramework> createMeetingFromRaw(ByteBuffer rawJson) {
+        return MeetingIngestionPipeline.shared().createMeetingFromRaw(rawJson);
+    }
+
+    public static ValidationResult<MeetingFramework> createMeetingFromRaw(InputStream rawJson) {
+        return MeetingIngestionPipeline.shared().createMeetingFromRaw(rawJson);
     }
 
-    private static ValidationResult<MeetingFramework> validationError() {
-        return ValidationResult.failure("Raw object is not valid");
+    public static Stream<IngestedRecord> stream(InputStream in) {
+        return MeetingIngestionPipeline.shared().stream(in);
     }
 }
@@ -0,0 +1,35 @@
+package sbuch.presentation.examples.meeting.framework;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import sbuch.presentation.examples.meeting.core.MeetingRoom;
+import sbuch.presentation.examples.meeting.core.VideoLink;
+import sbuch.presentation.examples.meeting.core.VideoPlatform;
+
+/**
+ * Single-pass deserializer for the sealed {@link MeetingFramework} hierarchy, calling the canonical constructor of
+ * the record matching the {@code type} property directly.
+ */
+final class MeetingFrameworkStreamingDeserializer extends MeetingJsonDeserializer<MeetingFramework> {
+    MeetingFrameworkStreamingDeserializer() {
+        super(MeetingFramework.class);
+    }
+
+    @Override
+    MeetingFramework inPerson(String title, String contactEmail, MeetingRoom meetingRoom, int numberOfGuests) {
+        return new MeetingFramework.InPersonMeetingFramework(title, contactEmail, meetingRoom, numberOfGuests);
+    }
+
+    @Override
+    MeetingFramework online(String title, String contactEmail, VideoPlatform videoPlatform, VideoLink videoLink) {
+        return new MeetingFramework.OnlineMeetingFramework(title, contactEmail, videoPlatform, videoLink);
+    }
+
+    /**
+     * Mix-in replacing the annotation-driven polymorphic handling of {@link MeetingFramework} with this deserializer.
+     */
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NONE)
+    @JsonDeserialize(using = MeetingFrameworkStreamingDeserializer.class)
+    interface MixIn {
+    }
+}
@@ -0,0 +1,317 @@
+package sbuch.presentation.examples.meeting.framework;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import sbuch.presentation.examples.meeting.core.ErrorCode;
+import sbuch.presentation.examples.meeting.core.Meeting;
+import sbuch.presentation.examples.meeting.core.ValidationResult;
+import sbuch.presentation.examples.meeting.metrics.IngestionMetrics;
+import sbuch.presentation.examples.meeting.metrics.Rejection;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Long-lived, thread-safe entry point turning raw JSON into validated {@link MeetingFramework} objects.
+ * The JSON reader and the constraint validators are built once and shared by every caller.
+ * The latency and outcome of each stage are recorded in {@link IngestionMetrics#shared()}, and emitted as
+ * flight recorder events when a recording enables them.
+ */
+public final class MeetingIngestionPipeline {
+    private static final String[] WARM_UP_PAYLOADS = {
+            """
+            {"type": "in_person", "title": "Warm-up", "contactEmail": "warm.up@acme.org", "meetingRoom": "small", "nGuests": 1}
+            """,
+            """
+            {"type": "online", "title": "Warm-up", "contactEmail": "warm.up@acme.org", "videoPlatform": "zoom", "videoLink": "https://zoom.us/j/1"}
+            """,
+            """
+            {"type": "in_person", "title": " ", "contactEmail": "warm-up", "meetingRoom": "small", "nGuests": 0}
+            """
+    };
+
+    private final ObjectReader reader;
+    private final ObjectReader meetingReader;
+    private final Predicate<MeetingFramework> constraints;
+    private final MeetingPayloadCache cache;
+    private final IngestionMetrics metrics;
+
+    public MeetingIngestionPipeline() {
+        this(MeetingFrameworkConstraints.generatedOrBeanValidation(), null);
+    }
+
+    /**
+     * Pipeline answering payloads it has already seen from the given cache.
+     */
+    public MeetingIngestionPipeline(MeetingPayloadCache cache) {
+        this(MeetingFrameworkConstraints.generatedOrBeanValidation(), cache);
+    }
+
+    MeetingIngestionPipeline(Predicate<MeetingFramework> constraints) {
+        this(constraints, null);
+    }
+
+    MeetingIngestionPipeline(Predicate<MeetingFramework> constraints, MeetingPayloadCache cache) {
+        this(constraints, cache, IngestionMetrics.shared());
+    }
+
+    private MeetingIngestionPipeline(Predicate<MeetingFramework> constraints, MeetingPayloadCache cache, IngestionMetrics metrics) {
+        this.metrics = metrics;
+        this.reader = new ObjectMapper()
+                .addMixIn(MeetingFramework.class, MeetingFrameworkStreamingDeserializer.MixIn.class)
+                .readerFor(MeetingFramework.class);
+        this.meetingReader = new ObjectMapper()
+                .registerModule(new SimpleModule().addDeserializer(ValidationResult.class, new DirectMeetingDeserializer(metrics)))
+                .readerFor(ValidationResult.class);
+        this.constraints = constraints;
+        this.cache = cache;
+    }
+
+    public static MeetingIngestionPipeline shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * Runs a few payloads through the text and byte parsers, the constraint checks and {@link #decodeMeeting}, so that
+     * their one-time initialization is not paid by the first request.
+     * <p>
+     * The payloads go through a scratch pipeline sharing the constraint checks of this one, so that they are neither
+     * cached nor counted in the metrics of this pipeline. This pipeline's own JSON readers are already built.
+     */
+    public MeetingIngestionPipeline warmUp() {
+        MeetingIngestionPipeline scratch = new MeetingIngestionPipeline(constraints, null, new IngestionMetrics());
+        for (String payload : WARM_UP_PAYLOADS) {
+            scratch.ingest(payload);
+            scratch.ingest(payload.getBytes(StandardCharsets.UTF_8));
+            scratch.decodeMeeting(payload);
+        }
+        return this;
+    }
+
+    public ValidationResult<MeetingFramework> createMeetingFromRaw(String rawJson) {
+        if (cache != null)
+            return cache.get(rawJson.getBytes(StandardCharsets.UTF_8), this::ingest);
+        return ingest(rawJson);
+    }
+
+    /**
+     * Same as {@link #createMeetingFromRaw(String)}, for a payload given as UTF-8 bytes.
+     */
+    public ValidationResult<MeetingFramework> createMeetingFromRaw(byte[] rawJson, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, rawJson.length);
+        if (cache != null)
+            return cache.get(Arrays.copyOfRange(rawJson, offset, offset + length), this::ingest);
+        return ingest(rawJson, offset, length);
+    }
+
+    public ValidationResult<MeetingFramework> createMeetingFromRaw(byte[] rawJson) {
+        return createMeetingFromRaw(rawJson, 0, rawJson.length);
+    }
+
+    /**
+     * Same as {@link #createMeetingFromRaw(String)}, for a payload given as the remaining UTF-8 bytes of a heap or
+     * direct buffer. The position of the buffer is not moved.
+     */
+    public ValidationResult<MeetingFramework> createMeetingFromRaw(ByteBuffer rawJson) {
+        if (rawJson.hasArray())
+            return createMeetingFromRaw(rawJson.array(), rawJson.arrayOffset() + rawJson.position(), rawJson.remaining());
+        if (cache != null) {
+            byte[] payload = new byte[rawJson.remaining()];
+            rawJson.get(rawJson.position(), payload);
+            return cache.get(payload, this::ingest);
+        }
+        return ingest(new ByteBufferInputStream(rawJson.duplicate()));
+    }
+
+    /**
+     * Same as {@link #createMeetingFromRaw(String)}, for a payload read as UTF-8 bytes from the stream, which is closed
+     * once the document is read. A stream failing to be read is rejected like malformed JSON.
+     */
+    public ValidationResult<MeetingFramework> createMeetingFromRaw(InputStream rawJson) {
+        if (cache != null) {
+            byte[] payload;
+            try (rawJson) {
+                payload = rawJson.readAllBytes();
+            } catch (IOException ignored) {
+                return validate(null, -1);
+            }
+            return cache.get(payload, this::ingest);
+        }
+        return ingest(rawJson);
+    }
+
+    private ValidationResult<MeetingFramework> ingest(String rawJson) {
+        MeetingPayloadEvent payloadEvent = new MeetingPayloadEvent();
+        payloadEvent.begin();
+        MeetingParseEvent parseEvent = new MeetingParseEvent();
+        parseEvent.begin();
+        MeetingFramework deserialized = parse(reader -> reader.readValue(rawJson));
+        // Only measured when it is going to be recorded
+        long payloadSize = payloadEvent.isEnabled() || parseEvent.isEnabled() ? MeetingEvents.utf8Size(rawJson) : -1;
+        return finish(payloadEvent, parseEvent, deserialized, payloadSize);
+    }
+
+    private ValidationResult<MeetingFramework> ingest(byte[] rawJson) {
+        return ingest(rawJson, 0, rawJson.length);
+    }
+
+    private ValidationResult<MeetingFramework> ingest(byte[] rawJson, int offset, int length) {
+        MeetingPayloadEvent payloadEvent = new MeetingPayloadEvent();
+        payloadEvent.begin();
+        MeetingParseEvent parseEvent = new MeetingParseEvent();
+        parseEvent.begin();
+        MeetingFramework deserialized = parse(reader -> reader.readValue(rawJson, offset, length));
+        return finish(payloadEvent, parseEvent, deserialized, length);
+    }
+
+    private ValidationResult<MeetingFramework> ingest(InputStream rawJson) {
+        MeetingPayloadEvent payloadEvent = new MeetingPayloadEvent();
+        payloadEvent.begin();
+        MeetingParseEvent parseEvent = new MeetingParseEvent();
+        parseEvent.begin();
+        long[] payloadSize = {-1};
+        MeetingFramework deserialized = parse(reader -> {
+            try (JsonParser parser = reader.createParser(rawJson)) {
+                MeetingFramework value = reader.readValue(parser);
+                payloadSize[0] = parser.currentLocation().getByteOffset();
+                return value;
+            }
+        });
+        return finish(payloadEvent, parseEvent, deserialized, payloadSize[0]);
+    }
+
+    private MeetingFramework parse(JsonSource source) {
+        long start = System.nanoTime();
+        MeetingFramework deserialized;
+        try {
+            deserialized = source.read(reader);
+        } catch (IOException ignored) {
+            deserialized = null;
+        }
+        metrics.recordParse(System.nanoTime() - start);
+        return deserialized;
+    }
+
+    private ValidationResult<MeetingFramework> finish(MeetingPayloadEvent payloadEvent, MeetingParseEvent parseEvent, MeetingFramework deserialized, long payloadSize) {
+        parseEvent.finish(deserialized, payloadSize);
+        ValidationResult<MeetingFramework> result = validate(deserialized, payloadSize);
+        payloadEvent.finish(deserialized, result, payloadSize);
+        return result;
+    }
+
+    /**
+     * Decodes raw JSON straight into a {@link Meeting}, applying the framework constraints and the domain rules
+     * in a single pass. The constraints are checked on the decoded fields directly, whatever the constraint checking
+     * mode of this pipeline, and no {@link MeetingFramework} is built. Accepts and rejects exactly what
+     * {@link #createMeetingFromRaw(String)} followed by the conversion to the domain does, and records the same
+     * rejections, validation latencies and events.
+     * As the constraints are checked while the document is being read, the parse latency and the payload and parse
+     * events are not recorded, and the payload cache is not used.
+     */
+    public ValidationResult<Meeting> decodeMeeting(String rawJson) {
+        ValidationResult<Meeting> decoded;
+        try {
+            decoded = meetingReader.readValue(rawJson);
+        } catch (IOException ignored) {
+            decoded = null;
+        }
+        if (decoded == null) {
+            metrics.reject(Rejection.MALFORMED_JSON);
+            return ValidationResult.failure(ErrorCode.INVALID_RAW_OBJECT);
+        }
+        return decoded;
+    }
+
+    public Stream<IngestedRecord> stream(InputStream in) {
+        return MeetingRecordStream.of(this, in);
+    }
+
+    ObjectReader reader() {
+        return reader;
+    }
+
+    /**
+     * @param payloadSize size in bytes of the JSON the meeting was read from, or -1 if it is not known
+     */
+    ValidationResult<MeetingFramework> validate(MeetingFramework deserialized, long payloadSize) {
+        if (deserialized == null) {
+            metrics.reject(Rejection.MALFORMED_JSON);
+            return validationError();
+        }
+
+        MeetingBeanValidationEvent event = new MeetingBeanValidationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        boolean valid = constraints.test(deserialized);
+        metrics.recordFrameworkValidation(System.nanoTime() - start);
+        event.finish(deserialized, valid, payloadSize);
+        if (!valid) {
+            metrics.reject(rejectionOf(deserialized));
+            return validationError();
+        }
+
+        return ValidationResult.success(deserialized);
+    }
+
+    private static Rejection rejectionOf(MeetingFramework invalid) {
+        return switch (invalid) {
+            case MeetingFramework.InPersonMeetingFramework inPerson when inPerson.meetingRoom() == null -> Rejection.UNKNOWN_MEETING_ROOM;
+            case MeetingFramework.OnlineMeetingFramework online when online.videoPlatform() == null -> Rejection.UNKNOWN_VIDEO_PLATFORM;
+            default -> Rejection.INVALID_FIELDS;
+        };
+    }
+
+    static ValidationResult<MeetingFramework> validationError() {
+        return ValidationResult.failure(ErrorCode.INVALID_RAW_OBJECT);
+    }
+
+    @FunctionalInterface
+    private interface JsonSource {
+        MeetingFramework read(ObjectReader reader) throws IOException;
+    }
+
+    /**
+     * Lets Jackson read a direct buffer through its byte-based parser, a chunk at a time.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            Objects.checkFromIndexSize(offset, length, bytes.length);
+            if (length == 0)
+                return 0;
+            if (!buffer.hasRemaining())
+                return -1;
+            int read = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, read);
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+    private static final class SharedHolder {
+        private static final MeetingIngestionPipeline INSTANCE = new MeetingIngestionPipeline();
+    }
+}
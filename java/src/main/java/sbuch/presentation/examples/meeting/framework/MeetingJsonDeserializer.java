@@ -0,0 +1,125 @@
+package sbuch.presentation.examples.meeting.framework;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import sbuch.presentation.examples.meeting.core.MeetingRoom;
+import sbuch.presentation.examples.meeting.core.VideoLink;
+import sbuch.presentation.examples.meeting.core.VideoPlatform;
+
+import java.io.IOException;
+
+/**
+ * Single-pass reader of the JSON representation of a meeting.
+ * <p>
+ * Fields are read in any order into local variables, and {@link #inPerson} or {@link #online} is called with them,
+ * depending on the {@code type} property, once the object is fully read. Unlike the annotation-driven
+ * {@link JsonTypeInfo.As#PROPERTY} handling, the object is never buffered when {@code type} is not its first field.
+ * Scalar coercions and error cases follow the annotation-driven path of {@link MeetingFramework}.
+ */
+abstract class MeetingJsonDeserializer<R> extends StdDeserializer<R> {
+    private static final MeetingRoomDeserializer MEETING_ROOMS = new MeetingRoomDeserializer();
+    private static final VideoPlatformDeserializer VIDEO_PLATFORMS = new VideoPlatformDeserializer();
+    private static final VideoLinkDeserializer VIDEO_LINKS = new VideoLinkDeserializer();
+
+    MeetingJsonDeserializer(Class<?> valueClass) {
+        super(valueClass);
+    }
+
+    abstract R inPerson(String title, String contactEmail, MeetingRoom meetingRoom, int numberOfGuests);
+
+    abstract R online(String title, String contactEmail, VideoPlatform videoPlatform, VideoLink videoLink);
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT)
+            token = p.nextToken();
+        else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT)
+            return (R) ctxt.handleUnexpectedToken(handledType(), p);
+
+        String type = null;
+        String title = null;
+        String contactEmail = null;
+        MeetingRoom meetingRoom = null;
+        int numberOfGuests = 0;
+        VideoPlatform videoPlatform = null;
+        VideoLink videoLink = null;
+        String inPersonField = null;
+        String onlineField = null;
+
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String name = p.currentName();
+            JsonToken value = p.nextToken();
+            try {
+                switch (name) {
+                    case "type" -> type = readString(p, ctxt, value);
+                    case "title" -> title = readString(p, ctxt, value);
+                    case "contactEmail" -> contactEmail = readString(p, ctxt, value);
+                    case "meetingRoom" -> {
+                        meetingRoom = value == JsonToken.VALUE_NULL ? null : MEETING_ROOMS.deserialize(p, ctxt);
+                        inPersonField = name;
+                    }
+                    case "nGuests" -> {
+                        numberOfGuests = readInt(p, ctxt, value);
+                        inPersonField = name;
+                    }
+                    case "videoPlatform" -> {
+                        videoPlatform = value == JsonToken.VALUE_NULL ? null : VIDEO_PLATFORMS.deserialize(p, ctxt);
+                        onlineField = name;
+                    }
+                    case "videoLink" -> {
+                        videoLink = value == JsonToken.VALUE_NULL ? null : VIDEO_LINKS.deserialize(p, ctxt);
+                        onlineField = name;
+                    }
+                    default -> ctxt.handleUnknownProperty(p, this, MeetingFramework.class, name);
+                }
+            } catch (RuntimeException e) {
+                // Same wrapping as the annotation-driven bean deserializer applies to failing properties
+                throw JsonMappingException.wrapWithPath(e, MeetingFramework.class, name);
+            }
+        }
+
+        if (type == null)
+            return (R) ctxt.reportInputMismatch(this, "Missing type id 'type' for MeetingFramework");
+
+        return switch (type) {
+            case "in_person" -> {
+                if (onlineField != null)
+                    yield unknownProperty(ctxt, type, onlineField);
+                yield inPerson(title, contactEmail, meetingRoom, numberOfGuests);
+            }
+            case "online" -> {
+                if (inPersonField != null)
+                    yield unknownProperty(ctxt, type, inPersonField);
+                yield online(title, contactEmail, videoPlatform, videoLink);
+            }
+            default -> (R) ctxt.reportInputMismatch(this, "Unknown type id '%s' for MeetingFramework", type);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private R unknownProperty(DeserializationContext ctxt, String type, String name) throws IOException {
+        return (R) ctxt.reportInputMismatch(this, "Unrecognized field '%s' for MeetingFramework of type '%s'", name, type);
+    }
+
+    private static String readString(JsonParser p, DeserializationContext ctxt, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_STRING)
+            return p.getText();
+        if (value == JsonToken.VALUE_NULL)
+            return null;
+        return ctxt.readValue(p, String.class);
+    }
+
+    private static int readInt(JsonParser p, DeserializationContext ctxt, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NUMBER_INT)
+            return p.getIntValue();
+        if (value == JsonToken.VALUE_NULL)
+            return 0;
+        return ctxt.readValue(p, Integer.TYPE);
+    }
+}
@@ -0,0 +1,35 @@
+package sbuch.presentation.examples.meeting.framework;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("sbuch.meeting.Parse")
+@Label("Meeting Parse")
+@Category({"Meeting", "Ingestion"})
+@Threshold("1 ms")
+@StackTrace(false)
+final class MeetingParseEvent extends jdk.jfr.Event {
+    @Label("Meeting Type")
+    String meetingType;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Payload Size")
+    @DataAmount(DataAmount.BYTES)
+    long payloadSize;
+
+    void finish(MeetingFramework deserialized, long size) {
+        end();
+        if (shouldCommit()) {
+            meetingType = MeetingEvents.typeOf(deserialized);
+            outcome = deserialized != null ? "parsed" : "malformed";
+            payloadSize = size;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package sbuch.presentation.examples.meeting.framework;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import sbuch.presentation.examples.meeting.core.ValidationResult;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of ingestion results keyed by the content of the raw payload, so that a payload received again
+ * before it expires is neither parsed nor validated a second time.
+ * <p>
+ * Payloads are looked up by a 64-bit hash of their UTF-8 bytes, and compared in full when the hashes match.
+ * Concurrent lookups of the same payload wait for the first one to be ingested instead of ingesting it too.
+ */
+public final class MeetingPayloadCache {
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+
+    private final Cache<PayloadKey, ValidationResult<MeetingFramework>> cache;
+
+    public MeetingPayloadCache(long maximumSize, Duration expireAfterWrite) {
+        this(maximumSize, expireAfterWrite, Ticker.systemTicker());
+    }
+
+    MeetingPayloadCache(long maximumSize, Duration expireAfterWrite, Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @param payload UTF-8 bytes of the payload, owned by the cache from now on
+     */
+    ValidationResult<MeetingFramework> get(byte[] payload, Function<byte[], ValidationResult<MeetingFramework>> ingestion) {
+        return cache.get(new PayloadKey(hash64(payload), payload), key -> ingestion.apply(key.payload()));
+    }
+
+    public long hitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long missCount() {
+        return cache.stats().missCount();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    /**
+     * Murmur3-style hash of the bytes, read 8 at a time.
+     */
+    static long hash64(byte[] bytes) {
+        long hash = SEED ^ bytes.length;
+        int i = 0;
+        for (; i + Long.BYTES <= bytes.length; i += Long.BYTES) {
+            hash = Long.rotateLeft(hash ^ mix((long) LONGS.get(bytes, i)), 27) * 5 + 0x52DCE729;
+        }
+        long tail = 0;
+        for (int shift = 0; i < bytes.length; i++, shift += 8) {
+            tail |= (bytes[i] & 0xFFL) << shift;
+        }
+        hash ^= mix(tail);
+
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        return hash ^ hash >>> 33;
+    }
+
+    private static long mix(long block) {
+        return Long.rotateLeft(block * 0x87C37B91114253D5L, 31) * 0x4CF5AD432745937FL;
+    }
+
+    record PayloadKey(long hash, byte[] payload) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof PayloadKey other && hash == other.hash && Arrays.equals(payload, other.payload);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(hash);
+        }
+
+        @Override
+        public String toString() {
+            return "PayloadKey[hash=%016x, length=%d]".formatted(hash, payload.length);
+        }
+    }
+}
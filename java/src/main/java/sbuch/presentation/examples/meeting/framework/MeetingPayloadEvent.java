@@ -0,0 +1,38 @@
+package sbuch.presentation.examples.meeting.framework;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import sbuch.presentation.examples.meeting.core.ValidationResult;
+
+@Name("sbuch.meeting.Payload")
+@Label("Meeting Payload")
+@Description("Ingestion of a raw meeting payload, from parsing to the end of the framework validation")
+@Category({"Meeting", "Ingestion"})
+@Threshold("1 ms")
+@StackTrace(false)
+final class MeetingPayloadEvent extends jdk.jfr.Event {
+    @Label("Meeting Type")
+    String meetingType;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Payload Size")
+    @DataAmount(DataAmount.BYTES)
+    long payloadSize;
+
+    void finish(MeetingFramework deserialized, ValidationResult<MeetingFramework> result, long size) {
+        end();
+        if (shouldCommit()) {
+            meetingType = MeetingEvents.typeOf(deserialized);
+            outcome = MeetingEvents.outcomeOf(result);
+            payloadSize = size;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package sbuch.presentation.examples.meeting.framework;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import sbuch.presentation.examples.meeting.core.ValidationResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads meetings one record at a time from either newline-delimited JSON or a single top-level JSON array.
+ * Only the record being processed is held in memory, whatever the size of the input.
+ */
+final class MeetingRecordStream {
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private MeetingRecordStream() {
+    }
+
+    static Stream<IngestedRecord> of(MeetingIngestionPipeline pipeline, InputStream in) {
+        RecordIterator iterator;
+        try {
+            iterator = open(pipeline, in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                false
+        ).onClose(iterator::closeQuietly);
+    }
+
+    private static RecordIterator open(MeetingIngestionPipeline pipeline, InputStream in) throws IOException {
+        byte[] chunk = new byte[CHUNK_SIZE];
+        int limit = 0;
+        int first;
+        do {
+            int read = in.read(chunk, limit, chunk.length - limit);
+            if (read < 0)
+                return new NdjsonIterator(pipeline, in, chunk, limit);
+            limit += read;
+            first = firstSignificantByte(chunk, limit);
+        } while (first < 0 && limit < chunk.length);
+
+        if (first >= 0 && chunk[first] == '[') {
+            InputStream replayed = new SequenceInputStream(new ByteArrayInputStream(chunk, 0, limit), in);
+            return new ArrayIterator(pipeline, replayed);
+        }
+        return new NdjsonIterator(pipeline, in, chunk, limit);
+    }
+
+    private static int firstSignificantByte(byte[] bytes, int limit) {
+        int i = 0;
+        if (limit >= 3 && bytes[0] == (byte) 0xEF && bytes[1] == (byte) 0xBB && bytes[2] == (byte) 0xBF)
+            i = 3;
+        for (; i < limit; i++) {
+            byte b = bytes[i];
+            if (b != ' ' && b != '\t' && b != '\r' && b != '\n')
+                return i;
+        }
+        return -1;
+    }
+
+    private abstract static class RecordIterator implements Iterator<IngestedRecord> {
+        final MeetingIngestionPipeline pipeline;
+        final Closeable source;
+        long index;
+        private IngestedRecord next;
+        private boolean finished;
+
+        RecordIterator(MeetingIngestionPipeline pipeline, Closeable source) {
+            this.pipeline = pipeline;
+            this.source = source;
+        }
+
+        abstract IngestedRecord readNext() throws IOException;
+
+        @Override
+        public boolean hasNext() {
+            if (next != null)
+                return true;
+            if (finished)
+                return false;
+
+            try {
+                next = readNext();
+            } catch (IOException e) {
+                finished = true;
+                throw new UncheckedIOException(e);
+            }
+            if (next == null)
+                finished = true;
+            return next != null;
+        }
+
+        @Override
+        public IngestedRecord next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            IngestedRecord current = next;
+            next = null;
+            return current;
+        }
+
+        void finish() {
+            finished = true;
+        }
+
+        void closeQuietly() {
+            try {
+                source.close();
+            } catch (IOException ignored) {
+                // Nothing more can be read from a source that failed to close
+            }
+        }
+    }
+
+    private static final class NdjsonIterator extends RecordIterator {
+        private final InputStream in;
+        private final byte[] chunk;
+        private int position;
+        private int limit;
+        private boolean endOfInput;
+
+        private byte[] line = new byte[1024];
+        private int lineLength;
+        private long lineNumber;
+        private long nextLineOffset;
+
+        NdjsonIterator(MeetingIngestionPipeline pipeline, InputStream in, byte[] chunk, int limit) {
+            super(pipeline, in);
+            this.in = in;
+            this.chunk = chunk;
+            this.limit = limit;
+        }
+
+        @Override
+        IngestedRecord readNext() throws IOException {
+            while (true) {
+                long lineOffset = nextLineOffset;
+                if (!readLine())
+                    return null;
+                lineNumber++;
+
+                int start = 0;
+                if (lineNumber == 1 && lineLength >= 3 && line[0] == (byte) 0xEF && line[1] == (byte) 0xBB && line[2] == (byte) 0xBF)
+                    start = 3;
+                if (isBlank(start))
+                    continue;
+
+                ValidationResult<MeetingFramework> result = pipeline.createMeetingFromRaw(line, start, lineLength - start);
+                return new IngestedRecord(index++, lineNumber, lineOffset, result);
+            }
+        }
+
+        private boolean isBlank(int start) {
+            for (int i = start; i < lineLength; i++) {
+                byte b = line[i];
+                if (b != ' ' && b != '\t' && b != '\r')
+                    return false;
+            }
+            return true;
+        }
+
+        private boolean readLine() throws IOException {
+            lineLength = 0;
+            boolean readAnything = false;
+            while (true) {
+                if (position == limit && !fill())
+                    return readAnything;
+
+                readAnything = true;
+                int end = position;
+                while (end < limit && chunk[end] != '\n')
+                    end++;
+
+                append(end - position);
+                nextLineOffset += end - position;
+                if (end < limit) {
+                    position = end + 1;
+                    nextLineOffset++;
+                    return true;
+                }
+                position = end;
+            }
+        }
+
+        private void append(int length) {
+            if (lineLength + length > line.length)
+                line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+            System.arraycopy(chunk, position, line, lineLength, length);
+            lineLength += length;
+        }
+
+        private boolean fill() throws IOException {
+            if (endOfInput)
+                return false;
+            int read = in.read(chunk, 0, chunk.length);
+            if (read < 0) {
+                endOfInput = true;
+                return false;
+            }
+            position = 0;
+            limit = read;
+            return true;
+        }
+    }
+
+    /**
+     * Copies each element of the array on its own, and hands it to the same entry point as a newline-delimited record,
+     * so that both framings go through the payload cache and record the same metrics and events.
+     */
+    private static final class ArrayIterator extends RecordIterator {
+        private final JsonParser parser;
+        private final RecordBuffer record = new RecordBuffer();
+        private final JsonGenerator generator;
+        private boolean started;
+
+        ArrayIterator(MeetingIngestionPipeline pipeline, InputStream in) throws IOException {
+            this(pipeline, pipeline.reader().createParser(in));
+        }
+
+        private ArrayIterator(MeetingIngestionPipeline pipeline, JsonParser parser) throws IOException {
+            super(pipeline, parser);
+            this.parser = parser;
+            this.generator = pipeline.reader().getFactory().createGenerator(record);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        IngestedRecord readNext() throws IOException {
+            long lineNumber = parser.currentLocation().getLineNr();
+            long byteOffset = parser.currentLocation().getByteOffset();
+            try {
+                if (!started) {
+                    parser.nextToken();
+                    started = true;
+                }
+
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.END_ARRAY || token == null)
+                    return null;
+
+                lineNumber = parser.currentTokenLocation().getLineNr();
+                byteOffset = parser.currentTokenLocation().getByteOffset();
+                record.reset();
+                generator.copyCurrentStructure(parser);
+                generator.flush();
+            } catch (StreamReadException ignored) {
+                // The rest of a syntactically broken array cannot be located reliably
+                finish();
+                return new IngestedRecord(index++, lineNumber, byteOffset, pipeline.validate(null, -1));
+            }
+            return new IngestedRecord(index++, lineNumber, byteOffset, pipeline.createMeetingFromRaw(record.bytes(), 0, record.size()));
+        }
+    }
+
+    private static final class RecordBuffer extends ByteArrayOutputStream {
+        byte[] bytes() {
+            return buf;
+        }
+    }
+}
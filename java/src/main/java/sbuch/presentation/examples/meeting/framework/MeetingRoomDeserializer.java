@@ -7,16 +7,17 @@ import sbuch.presentation.examples.meeting.core.MeetingRoom;
 
 import java.io.IOException;
 
+/**
+ * Resolves the names registered in {@link MeetingAliases} straight from the parser buffer.
+ * An unknown name, or a structured value, deserializes to {@code null}, which the {@code @NotNull} constraint rejects.
+ */
 class MeetingRoomDeserializer extends JsonDeserializer<MeetingRoom> {
     @Override
     public MeetingRoom deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        String value = p.getValueAsString();
-
-        return switch (value) {
-            case "small" -> MeetingRoom.ROOM_101;
-            case "medium" -> MeetingRoom.ROOM_42;
-            case "large" -> MeetingRoom.AMPHITHEATER;
-            default -> throw new IllegalArgumentException("Unknown meeting room size: " + value);
-        };
+        if (!p.currentToken().isScalarValue()) {
+            p.skipChildren();
+            return null;
+        }
+        return MeetingAliases.MEETING_ROOMS.lookup(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
     }
 }
@@ -0,0 +1,24 @@
+package sbuch.presentation.examples.meeting.framework;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import sbuch.presentation.examples.meeting.core.ValidationResult;
+import sbuch.presentation.examples.meeting.core.VideoLink;
+
+import java.io.IOException;
+
+/**
+ * Parses a {@link VideoLink}, deserializing an invalid one to {@code null} for the {@code @NotNull} constraint to reject.
+ */
+class VideoLinkDeserializer extends JsonDeserializer<VideoLink> {
+    @Override
+    public VideoLink deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (!p.currentToken().isScalarValue()) {
+            p.skipChildren();
+            return null;
+        }
+        ValidationResult<VideoLink> videoLink = VideoLink.of(p.getText());
+        return videoLink.hasFailedValidation() ? null : videoLink.getValue();
+    }
+}
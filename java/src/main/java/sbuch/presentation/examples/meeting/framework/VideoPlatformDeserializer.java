@@ -7,16 +7,16 @@ import sbuch.presentation.examples.meeting.core.VideoPlatform;
 
 import java.io.IOException;
 
+/**
+ * Video platform counterpart of {@link MeetingRoomDeserializer}.
+ */
 class VideoPlatformDeserializer extends JsonDeserializer<VideoPlatform> {
     @Override
     public VideoPlatform deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        String value = p.getValueAsString();
-
-        return switch (value) {
-            case "zoom" -> VideoPlatform.ZOOM;
-            case "meet" -> VideoPlatform.MEET;
-            case "teams" -> VideoPlatform.TEAMS;
-            default -> throw new IllegalArgumentException("Unknown video platform: " + value);
-        };
+        if (!p.currentToken().isScalarValue()) {
+            p.skipChildren();
+            return null;
+        }
+        return MeetingAliases.VIDEO_PLATFORMS.lookup(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
     }
 }
@@ -0,0 +1,227 @@
+package sbuch.presentation.examples.meeting.framework.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a plain Java validator for every record whose components carry Bean Validation constraints, so that
+ * they can be checked without reflection, metadata scanning or message interpolation.
+ * <p>
+ * For a record {@code a.b.Outer.Inner}, the generated class is {@code a.b.Outer_InnerValidator}.
+ * Only {@code @NotNull}, {@code @NotBlank}, {@code @Min} and {@code @EmailAddress} in the default group are supported:
+ * a record using any other constraint gets no generated validator, and is left to the Bean Validation provider.
+ */
+@SupportedAnnotationTypes({
+        ConstraintValidatorProcessor.NOT_NULL,
+        ConstraintValidatorProcessor.NOT_BLANK,
+        ConstraintValidatorProcessor.MIN,
+        ConstraintValidatorProcessor.EMAIL,
+        ConstraintValidatorProcessor.EMAIL_ADDRESS
+})
+public class ConstraintValidatorProcessor extends AbstractProcessor {
+    static final String NOT_NULL = "jakarta.validation.constraints.NotNull";
+    static final String NOT_BLANK = "jakarta.validation.constraints.NotBlank";
+    static final String MIN = "jakarta.validation.constraints.Min";
+    static final String EMAIL = "jakarta.validation.constraints.Email";
+    static final String EMAIL_ADDRESS = "sbuch.presentation.examples.meeting.framework.EmailAddress";
+
+    private static final String CONSTRAINT = "jakarta.validation.Constraint";
+    private static final String VALID = "jakarta.validation.Valid";
+    private static final String EMAIL_ADDRESS_CHECK = "sbuch.presentation.examples.meeting.framework.EmailAddressValidator.isValid";
+    private static final String VALIDATOR_INTERFACE = "sbuch.presentation.examples.meeting.framework.GeneratedValidator";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> records = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element annotated : roundEnv.getElementsAnnotatedWith(annotation)) {
+                TypeElement record = enclosingRecord(annotated);
+                if (record != null)
+                    records.add(record);
+            }
+        }
+
+        for (TypeElement record : records) {
+            List<String> checks = checksOf(record);
+            if (checks == null)
+                continue;
+            write(record, checks);
+        }
+        return false;
+    }
+
+    private static TypeElement enclosingRecord(Element element) {
+        for (Element current = element; current != null; current = current.getEnclosingElement()) {
+            if (current.getKind() == ElementKind.RECORD)
+                return (TypeElement) current;
+            if (current.getKind().isClass() || current.getKind().isInterface())
+                return null;
+        }
+        return null;
+    }
+
+    private List<String> checksOf(TypeElement record) {
+        List<String> checks = new ArrayList<>();
+        for (RecordComponentElement component : record.getRecordComponents()) {
+            Element field = fieldOf(record, component);
+            String accessor = "value." + component.getSimpleName() + "()";
+            TypeMirror type = component.asType();
+
+            for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+                String name = ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+                if (name.equals(VALID))
+                    return unsupported(record, component, name);
+                if (!isConstraint(annotation))
+                    continue;
+                if (!inDefaultGroup(annotation))
+                    return unsupported(record, component, name + " with groups");
+
+                String check = switch (name) {
+                    case NOT_NULL -> type.getKind().isPrimitive() ? null : accessor + " != null";
+                    case NOT_BLANK -> isString(type)
+                            ? accessor + " != null && !" + accessor + ".trim().isEmpty()"
+                            : "";
+                    case MIN -> minCheck(type, accessor, annotation);
+                    case EMAIL_ADDRESS -> isString(type) ? EMAIL_ADDRESS_CHECK + "(" + accessor + ")" : "";
+                    default -> "";
+                };
+                if (check == null)
+                    continue;
+                if (check.isEmpty())
+                    return unsupported(record, component, name);
+                checks.add(check);
+            }
+        }
+        return checks;
+    }
+
+    private static Element fieldOf(TypeElement record, RecordComponentElement component) {
+        for (Element member : record.getEnclosedElements()) {
+            if (member.getKind() == ElementKind.FIELD && member.getSimpleName().equals(component.getSimpleName()))
+                return member;
+        }
+        return component;
+    }
+
+    private static boolean isConstraint(AnnotationMirror annotation) {
+        for (AnnotationMirror meta : annotation.getAnnotationType().asElement().getAnnotationMirrors()) {
+            if (((TypeElement) meta.getAnnotationType().asElement()).getQualifiedName().contentEquals(CONSTRAINT))
+                return true;
+        }
+        return false;
+    }
+
+    private static boolean inDefaultGroup(AnnotationMirror annotation) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("groups") && !((List<?>) entry.getValue().getValue()).isEmpty())
+                return false;
+        }
+        return true;
+    }
+
+    private static boolean isString(TypeMirror type) {
+        return qualifiedName(type).equals("java.lang.String");
+    }
+
+    // TypeMirror#toString() would include the type-use constraint annotations
+    private static String qualifiedName(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED)
+            return "";
+        return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+    }
+
+    private static String minCheck(TypeMirror type, String accessor, AnnotationMirror annotation) {
+        long min = 0;
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("value"))
+                min = (Long) entry.getValue().getValue();
+        }
+
+        return switch (type.getKind()) {
+            case BYTE, SHORT, INT, LONG -> accessor + " >= " + min + "L";
+            case DECLARED -> switch (qualifiedName(type)) {
+                case "java.lang.Byte", "java.lang.Short", "java.lang.Integer", "java.lang.Long" ->
+                        "(" + accessor + " == null || " + accessor + " >= " + min + "L)";
+                default -> "";
+            };
+            default -> "";
+        };
+    }
+
+    private List<String> unsupported(TypeElement record, RecordComponentElement component, String constraint) {
+        processingEnv.getMessager().printMessage(
+                Diagnostic.Kind.NOTE,
+                "No validator generated for %s: %s on '%s' is not supported".formatted(record.getQualifiedName(), constraint, component.getSimpleName()),
+                record
+        );
+        return null;
+    }
+
+    private void write(TypeElement record, List<String> checks) {
+        String packageName = packageOf(record).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(record).toString();
+        String validatorName = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1).replace('$', '_') + "Validator";
+        String recordName = record.getQualifiedName().toString();
+
+        try (PrintWriter out = new PrintWriter(processingEnv.getFiler().createSourceFile(
+                packageName.isEmpty() ? validatorName : packageName + "." + validatorName, record).openWriter())) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+            out.println("public final class " + validatorName + " implements " + VALIDATOR_INTERFACE + "<" + recordName + "> {");
+            out.println();
+            out.println("    public static boolean check(" + recordName + " value) {");
+            if (checks.isEmpty()) {
+                out.println("        return true;");
+            } else {
+                out.println("        return " + String.join("\n                && ", checks) + ";");
+            }
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public boolean isValid(" + recordName + " value) {");
+            out.println("        return check(value);");
+            out.println("    }");
+            out.println("}");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static PackageElement packageOf(Element element) {
+        Element current = element;
+        while (current.getKind() != ElementKind.PACKAGE) {
+            current = current.getEnclosingElement();
+        }
+        return (PackageElement) current;
+    }
+}
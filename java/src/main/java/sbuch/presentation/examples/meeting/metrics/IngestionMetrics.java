@@ -0,0 +1,175 @@
+package sbuch.presentation.examples.meeting.metrics;
+
+import sbuch.presentation.examples.meeting.core.InPersonMeeting;
+import sbuch.presentation.examples.meeting.core.Meeting;
+import sbuch.presentation.examples.meeting.core.MeetingRoom;
+import sbuch.presentation.examples.meeting.core.OnlineMeeting;
+import sbuch.presentation.examples.meeting.core.ValidationResult;
+import sbuch.presentation.examples.meeting.core.VideoPlatform;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms of the ingestion stages, and counters of their outcomes.
+ * <p>
+ * Recording neither locks nor allocates. The {@linkplain #shared() shared} instance is published over JMX
+ * as {@value #OBJECT_NAME}.
+ */
+public final class IngestionMetrics implements IngestionMetricsMXBean {
+    public static final String OBJECT_NAME = "sbuch.presentation.examples.meeting:type=IngestionMetrics";
+
+    private static final Rejection[] REJECTIONS = Rejection.values();
+    private static final MeetingRoom[] MEETING_ROOMS = MeetingRoom.values();
+    private static final VideoPlatform[] VIDEO_PLATFORMS = VideoPlatform.values();
+
+    private final LatencyHistogram parse = new LatencyHistogram();
+    private final LatencyHistogram frameworkValidation = new LatencyHistogram();
+    private final LatencyHistogram domainValidation = new LatencyHistogram();
+    private final LongAdder[] rejections = adders(REJECTIONS.length);
+    private final LongAdder[] overCapacityRejections = adders(MEETING_ROOMS.length);
+    private final LongAdder[] inPersonSuccesses = adders(MEETING_ROOMS.length);
+    private final LongAdder[] onlineSuccesses = adders(VIDEO_PLATFORMS.length);
+
+    public static IngestionMetrics shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    public void recordParse(long nanos) {
+        parse.record(nanos);
+    }
+
+    public void recordFrameworkValidation(long nanos) {
+        frameworkValidation.record(nanos);
+    }
+
+    public void recordDomainValidation(long nanos) {
+        domainValidation.record(nanos);
+    }
+
+    public void reject(Rejection rejection) {
+        rejections[rejection.ordinal()].increment();
+    }
+
+    /**
+     * Counts the outcome of the domain validation of a meeting.
+     */
+    public void count(ValidationResult<Meeting> result) {
+        if (!result.hasFailedValidation()) {
+            switch (result.getValue()) {
+                case InPersonMeeting inPersonMeeting -> inPersonSuccesses[inPersonMeeting.meetingRoom.ordinal()].increment();
+                case OnlineMeeting onlineMeeting -> onlineSuccesses[onlineMeeting.videoPlatform.ordinal()].increment();
+            }
+            return;
+        }
+
+        ValidationResult.ValidationError error = result.getError();
+        Rejection rejection = switch (error.getCode()) {
+            case MALFORMED_EMAIL -> Rejection.MALFORMED_EMAIL;
+            case FOREIGN_EMAIL_DOMAIN -> Rejection.FOREIGN_EMAIL_DOMAIN;
+            case BAD_USERNAME -> Rejection.BAD_USERNAME;
+            case ROOM_OVER_CAPACITY -> {
+                overCapacityRejections[((MeetingRoom) error.getArgument(0)).ordinal()].increment();
+                yield Rejection.ROOM_OVER_CAPACITY;
+            }
+            case FOREIGN_VIDEO_LINK -> Rejection.FOREIGN_VIDEO_LINK;
+            default -> Rejection.OTHER;
+        };
+        reject(rejection);
+    }
+
+    public long rejections(Rejection rejection) {
+        return rejections[rejection.ordinal()].sum();
+    }
+
+    public long overCapacityRejections(MeetingRoom meetingRoom) {
+        return overCapacityRejections[meetingRoom.ordinal()].sum();
+    }
+
+    public long successes(MeetingRoom meetingRoom) {
+        return inPersonSuccesses[meetingRoom.ordinal()].sum();
+    }
+
+    public long successes(VideoPlatform videoPlatform) {
+        return onlineSuccesses[videoPlatform.ordinal()].sum();
+    }
+
+    @Override
+    public LatencySnapshot getParseLatency() {
+        return parse.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getFrameworkValidationLatency() {
+        return frameworkValidation.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getDomainValidationLatency() {
+        return domainValidation.snapshot();
+    }
+
+    @Override
+    public Map<String, Long> getRejections() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Rejection rejection : REJECTIONS) {
+            counts.put(rejection.name(), rejections(rejection));
+        }
+        for (MeetingRoom meetingRoom : MEETING_ROOMS) {
+            counts.put(Rejection.ROOM_OVER_CAPACITY.name() + "." + meetingRoom.name(), overCapacityRejections(meetingRoom));
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getSuccesses() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (MeetingRoom meetingRoom : MEETING_ROOMS) {
+            counts.put(meetingRoom.name(), successes(meetingRoom));
+        }
+        for (VideoPlatform videoPlatform : VIDEO_PLATFORMS) {
+            counts.put(videoPlatform.name(), successes(videoPlatform));
+        }
+        return counts;
+    }
+
+    @Override
+    public void reset() {
+        parse.reset();
+        frameworkValidation.reset();
+        domainValidation.reset();
+        for (LongAdder[] adders : new LongAdder[][]{rejections, overCapacityRejections, inPersonSuccesses, onlineSuccesses}) {
+            for (LongAdder adder : adders) {
+                adder.reset();
+            }
+        }
+    }
+
+    private static LongAdder[] adders(int size) {
+        LongAdder[] adders = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private static final class SharedHolder {
+        private static final IngestionMetrics INSTANCE = register(new IngestionMetrics());
+
+        private static IngestionMetrics register(IngestionMetrics metrics) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, new ObjectName(OBJECT_NAME));
+            } catch (InstanceAlreadyExistsException ignored) {
+                // Another class loader of this application published its own instance first
+            } catch (JMException e) {
+                throw new IllegalStateException("Cannot publish ingestion metrics as " + OBJECT_NAME, e);
+            }
+            return metrics;
+        }
+    }
+}
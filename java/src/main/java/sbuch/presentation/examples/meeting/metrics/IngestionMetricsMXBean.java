@@ -0,0 +1,27 @@
+package sbuch.presentation.examples.meeting.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link IngestionMetrics}. Latencies are in nanoseconds.
+ */
+public interface IngestionMetricsMXBean {
+    LatencySnapshot getParseLatency();
+
+    LatencySnapshot getFrameworkValidationLatency();
+
+    LatencySnapshot getDomainValidationLatency();
+
+    /**
+     * Rejections by {@link Rejection}, over-capacity rejections being also counted per room,
+     * as {@code ROOM_OVER_CAPACITY.<MeetingRoom>}.
+     */
+    Map<String, Long> getRejections();
+
+    /**
+     * Accepted meetings by {@code MeetingRoom} and {@code VideoPlatform}.
+     */
+    Map<String, Long> getSuccesses();
+
+    void reset();
+}
@@ -0,0 +1,17 @@
+package sbuch.presentation.examples.meeting.metrics;
+
+/**
+ * Why a raw meeting was not turned into a {@link sbuch.presentation.examples.meeting.core.Meeting}.
+ */
+public enum Rejection {
+    MALFORMED_JSON,
+    UNKNOWN_MEETING_ROOM,
+    UNKNOWN_VIDEO_PLATFORM,
+    INVALID_FIELDS,
+    MALFORMED_EMAIL,
+    FOREIGN_EMAIL_DOMAIN,
+    BAD_USERNAME,
+    ROOM_OVER_CAPACITY,
+    FOREIGN_VIDEO_LINK,
+    OTHER
+}
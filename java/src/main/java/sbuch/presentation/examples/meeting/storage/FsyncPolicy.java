@@ -0,0 +1,19 @@
+package sbuch.presentation.examples.meeting.storage;
+
+/**
+ * When records appended to a {@link MeetingLog} are forced to the storage device.
+ */
+public enum FsyncPolicy {
+    /**
+     * Records are written back whenever the operating system decides to, and when the log is closed.
+     */
+    NEVER,
+    /**
+     * Records are forced in the background, at a fixed interval.
+     */
+    INTERVAL,
+    /**
+     * {@link MeetingLog#append} only returns once the record is durable. Concurrent appends share a single force.
+     */
+    ALWAYS
+}
@@ -0,0 +1,364 @@
+package sbuch.presentation.examples.meeting.storage;
+
+import sbuch.presentation.examples.meeting.core.Meeting;
+import sbuch.presentation.examples.meeting.core.MeetingCodec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of {@link Meeting} records, stored in fixed-size segment files written through memory mapping.
+ * <p>
+ * Each record is laid out as {@code [length][crc32c][payload]}, and a zero length marks the end of the written part
+ * of a segment. Writers only hold a short lock to copy their record into the mapped segment; forcing it to the
+ * device is then done by whichever writer gets to sync first, for every record appended so far (group commit).
+ * When a log is opened, its records are checked in order, and everything following the first torn, corrupted or
+ * missing record left by a crash is discarded, later segments included, so that the log never has holes: unless every
+ * record is synced, a crash may lose the records appended after any unsynced one.
+ * <p>
+ * Segments are unmapped when their buffers are garbage collected, as Java 21 offers no way to release them earlier
+ * without preview features: {@link #close()} drops every reference to them.
+ */
+public final class MeetingLog implements Closeable {
+    public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+    public static final Duration SYNC_INTERVAL = Duration.ofMillis(100);
+
+    static final int HEADER_SIZE = 8;
+    private static final Logger LOGGER = Logger.getLogger(MeetingLog.class.getName());
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final Pattern SEGMENT_NAME = Pattern.compile(Pattern.quote(SEGMENT_PREFIX) + "(0\\d{9})" + Pattern.quote(SEGMENT_SUFFIX));
+    private static final byte[] ZEROS = new byte[8192];
+
+    private final Path directory;
+    private final int segmentSize;
+    private final FsyncPolicy fsyncPolicy;
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final ScheduledExecutorService syncer;
+
+    // guarded by writeLock
+    private Segment current;
+    private int writeOffset;
+    private boolean closed;
+
+    // guarded by syncLock
+    private Segment synced;
+    private int syncedOffset;
+    private volatile long durablePosition;
+
+    private MeetingLog(Path directory, int segmentSize, FsyncPolicy fsyncPolicy) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.fsyncPolicy = fsyncPolicy;
+
+        recover();
+        this.synced = segments.getFirst();
+        this.durablePosition = position(synced, 0);
+
+        if (fsyncPolicy == FsyncPolicy.INTERVAL) {
+            this.syncer = Executors.newSingleThreadScheduledExecutor(task -> Thread.ofPlatform().daemon().name("meeting-log-sync").unstarted(task));
+            long interval = SYNC_INTERVAL.toNanos();
+            this.syncer.scheduleWithFixedDelay(this::syncInBackground, interval, interval, TimeUnit.NANOSECONDS);
+        } else {
+            this.syncer = null;
+        }
+    }
+
+    public static MeetingLog open(Path directory, FsyncPolicy fsyncPolicy) throws IOException {
+        return open(directory, fsyncPolicy, DEFAULT_SEGMENT_SIZE);
+    }
+
+    public static MeetingLog open(Path directory, FsyncPolicy fsyncPolicy, int segmentSize) throws IOException {
+        if (segmentSize <= HEADER_SIZE)
+            throw new IllegalArgumentException("Segment size must be greater than %d bytes, got %d".formatted(HEADER_SIZE, segmentSize));
+        Files.createDirectories(directory);
+        return new MeetingLog(directory, segmentSize, fsyncPolicy);
+    }
+
+    public FsyncPolicy fsyncPolicy() {
+        return fsyncPolicy;
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    public void append(Meeting meeting) {
+        byte[] payload = MeetingCodec.encode(meeting);
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+
+        long end;
+        writeLock.lock();
+        try {
+            if (closed)
+                throw new IllegalStateException("MeetingLog is closed");
+            if (writeOffset + HEADER_SIZE + payload.length > current.capacity())
+                roll(payload.length);
+
+            MappedByteBuffer buffer = current.buffer();
+            buffer.put(writeOffset + HEADER_SIZE, payload);
+            buffer.putInt(writeOffset + 4, (int) crc.getValue());
+            buffer.putInt(writeOffset, payload.length);
+            writeOffset += HEADER_SIZE + payload.length;
+            end = position(current, writeOffset);
+        } finally {
+            writeLock.unlock();
+        }
+
+        if (fsyncPolicy == FsyncPolicy.ALWAYS && end > durablePosition)
+            sync();
+    }
+
+    /**
+     * Forces every record appended so far to the storage device.
+     */
+    public void sync() {
+        syncLock.lock();
+        try {
+            Segment segment;
+            int offset;
+            writeLock.lock();
+            try {
+                segment = current;
+                offset = writeOffset;
+            } finally {
+                writeLock.unlock();
+            }
+            if (segment == null || position(segment, offset) <= durablePosition)
+                return;
+
+            int from = syncedOffset;
+            for (Segment sealed = synced; sealed != segment; sealed = segments.get(sealed.index() - segments.getFirst().index() + 1)) {
+                sealed.buffer().force(from, sealed.capacity() - from);
+                from = 0;
+            }
+            segment.buffer().force(from, offset - from);
+
+            synced = segment;
+            syncedOffset = offset;
+            durablePosition = position(segment, offset);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    // an exception would cancel every later run of the scheduled task
+    private void syncInBackground() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Failed to sync the meeting log in " + directory, e);
+        }
+    }
+
+    /**
+     * Reads back every record of the log, in append order.
+     *
+     * @return the number of records read
+     */
+    public long replay(Consumer<? super Meeting> consumer) {
+        Segment last;
+        int end;
+        writeLock.lock();
+        try {
+            if (closed)
+                throw new IllegalStateException("MeetingLog is closed");
+            last = current;
+            end = writeOffset;
+        } finally {
+            writeLock.unlock();
+        }
+
+        long[] count = {0};
+        for (Segment segment : segments) {
+            int limit = segment == last ? end : segment.capacity();
+            int scanned = scan(segment.buffer(), limit, payload -> {
+                consumer.accept(MeetingCodec.decode(payload));
+                count[0]++;
+            });
+            if (scanned + HEADER_SIZE <= limit && segment.buffer().getInt(scanned) != 0)
+                throw new IllegalStateException("Corrupted record in %s at offset %d".formatted(segment.path(), scanned));
+            if (segment == last)
+                break;
+        }
+        return count[0];
+    }
+
+    @Override
+    public void close() {
+        writeLock.lock();
+        try {
+            if (closed)
+                return;
+            closed = true;
+        } finally {
+            writeLock.unlock();
+        }
+        if (syncer != null)
+            syncer.shutdownNow();
+        sync();
+
+        syncLock.lock();
+        writeLock.lock();
+        try {
+            segments.clear();
+            current = null;
+            synced = null;
+        } finally {
+            writeLock.unlock();
+            syncLock.unlock();
+        }
+    }
+
+    private void recover() throws IOException {
+        SortedMap<Integer, Path> paths = new TreeMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(path -> {
+                Matcher name = SEGMENT_NAME.matcher(path.getFileName().toString());
+                if (name.matches())
+                    paths.put(Integer.parseInt(name.group(1)), path);
+            });
+        }
+
+        List<Segment> recovered = new ArrayList<>(paths.size());
+        List<Path> dropped = new ArrayList<>();
+        boolean complete = true;
+        for (Map.Entry<Integer, Path> path : paths.entrySet()) {
+            if (!complete) {
+                dropped.add(path.getValue());
+                continue;
+            }
+            Segment segment = Segment.map(path.getValue(), path.getKey(), (int) Files.size(path.getValue()));
+            int end = scan(segment.buffer(), segment.capacity(), payload -> {
+            });
+            if (!recovered.isEmpty() && !follows(recovered.getLast(), writeOffset, segment, end)) {
+                complete = false;
+                dropped.add(path.getValue());
+                continue;
+            }
+            complete = !truncate(segment.buffer(), end);
+            recovered.add(segment);
+            writeOffset = end;
+        }
+
+        for (Path path : dropped) {
+            LOGGER.warning("Dropping meeting log segment %s, which follows a torn or missing record".formatted(path));
+            Files.delete(path);
+        }
+        if (recovered.isEmpty())
+            recovered.add(Segment.map(segmentPath(0), 0, segmentSize));
+        segments.addAll(recovered);
+        current = recovered.getLast();
+    }
+
+    // A segment is only rolled when the next record does not fit in the previous one, so its first record must not
+    private static boolean follows(Segment previous, int previousEnd, Segment segment, int end) {
+        return segment.index() == previous.index() + 1
+                && end > 0
+                && previousEnd + HEADER_SIZE + segment.buffer().getInt(0) > previous.capacity();
+    }
+
+    /**
+     * @return {@code true} if anything was written past the offset, i.e. the segment was torn or corrupted there
+     */
+    private static boolean truncate(MappedByteBuffer buffer, int offset) {
+        int capacity = buffer.capacity();
+        boolean dirty = false;
+        for (int i = offset; i < capacity; i += ZEROS.length) {
+            int length = Math.min(ZEROS.length, capacity - i);
+            if (buffer.slice(i, length).mismatch(ByteBuffer.wrap(ZEROS, 0, length)) == -1)
+                continue;
+            buffer.put(i, ZEROS, 0, length);
+            dirty = true;
+        }
+        if (dirty)
+            buffer.force(offset, capacity - offset);
+        return dirty;
+    }
+
+    /**
+     * Checks the records of a segment, up to the first empty, torn or corrupted one.
+     *
+     * @return the offset following the last valid record
+     */
+    private static int scan(MappedByteBuffer buffer, int limit, Consumer<ByteBuffer> records) {
+        int offset = 0;
+        CRC32C crc = new CRC32C();
+        while (offset + HEADER_SIZE <= limit) {
+            int length = buffer.getInt(offset);
+            if (length <= 0 || length > limit - offset - HEADER_SIZE)
+                break;
+
+            crc.reset();
+            crc.update(buffer.slice(offset + HEADER_SIZE, length));
+            if ((int) crc.getValue() != buffer.getInt(offset + 4))
+                break;
+
+            records.accept(buffer.slice(offset + HEADER_SIZE, length));
+            offset += HEADER_SIZE + length;
+        }
+        return offset;
+    }
+
+    private void roll(int payloadLength) {
+        if (HEADER_SIZE + payloadLength > segmentSize)
+            throw new IllegalArgumentException("Meeting record of %d bytes does not fit in a segment of %d bytes".formatted(payloadLength, segmentSize));
+        try {
+            int index = current.index() + 1;
+            Segment next = Segment.map(segmentPath(index), index, segmentSize);
+            segments.add(next);
+            current = next;
+            writeOffset = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path segmentPath(int index) {
+        return directory.resolve("%s%010d%s".formatted(SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+    }
+
+    private static long position(Segment segment, int offset) {
+        return ((long) segment.index() << 32) | offset;
+    }
+
+    private record Segment(Path path, int index, MappedByteBuffer buffer) {
+        static Segment map(Path path, int index, int size) throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                return new Segment(path, index, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+            }
+        }
+
+        int capacity() {
+            return buffer.capacity();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package sbuch.presentation.examples;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Random;
+
+class PackedDoorsTest {
+    private static final Door[] STATES = {new OpenDoor(), new ClosedDoor(false), new ClosedDoor(true)};
+
+    private static Door apply(PackedDoors.Transition transition, Door door) {
+        return switch (transition) {
+            case OPEN -> door instanceof ClosedDoor(boolean isLocked) && isLocked ? door : new OpenDoor();
+            case CLOSE -> door instanceof OpenDoor ? new ClosedDoor(false) : door;
+            case LOCK -> door instanceof ClosedDoor ? new ClosedDoor(true) : door;
+            case UNLOCK -> door instanceof ClosedDoor ? new ClosedDoor(false) : door;
+        };
+    }
+
+    private static Door[] randomize(PackedDoors doors, Random random) {
+        Door[] expected = new Door[doors.size()];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = STATES[random.nextInt(STATES.length)];
+            doors.setDoor(i, expected[i]);
+        }
+        return expected;
+    }
+
+    private static void assertDoors(Door[] expected, PackedDoors doors) {
+        for (int i = 0; i < expected.length; i++) {
+            Assertions.assertEquals(expected[i], doors.door(i), "door " + i);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(PackedDoors.Transition.class)
+    void shouldApplyTransitionToTheDoorsInRange(PackedDoors.Transition transition) {
+        var doors = new PackedDoors(150);
+        Door[] expected = randomize(doors, new Random(transition.ordinal()));
+
+        doors.apply(transition, 7, 131);
+        for (int i = 7; i < 131; i++) {
+            expected[i] = apply(transition, expected[i]);
+        }
+
+        assertDoors(expected, doors);
+    }
+
+    @ParameterizedTest
+    @EnumSource(PackedDoors.Transition.class)
+    void shouldApplyTransitionInParallelLikeSequentially(PackedDoors.Transition transition) {
+        int size = 3 * PackedLanes.PARALLEL_THRESHOLD + 45;
+        var doors = new PackedDoors(size);
+        Door[] expected = randomize(doors, new Random(size));
+
+        doors.applyInParallel(transition, 1, size);
+        for (int i = 1; i < size; i++) {
+            expected[i] = apply(transition, expected[i]);
+        }
+
+        assertDoors(expected, doors);
+    }
+
+    @Test
+    void shouldStartOpen() {
+        var doors = new PackedDoors(3);
+
+        for (int i = 0; i < doors.size(); i++) {
+            Assertions.assertEquals(new OpenDoor(), doors.door(i));
+        }
+    }
+
+    @Test
+    void shouldOnlyLockClosedDoors() {
+        var doors = new PackedDoors(2);
+        doors.setDoor(1, new ClosedDoor(false));
+
+        doors.apply(PackedDoors.Transition.LOCK, 0, 2);
+        doors.apply(PackedDoors.Transition.OPEN, 0, 2);
+
+        Assertions.assertEquals(new OpenDoor(), doors.door(0));
+        Assertions.assertEquals(new ClosedDoor(true), doors.door(1));
+    }
+}
@@ -0,0 +1,114 @@
+package sbuch.presentation.examples;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+class PackedTrafficLightsTest {
+
+    private static TrafficLightColor next(TrafficLightColor color) {
+        return switch (color) {
+            case RED -> TrafficLightColor.GREEN;
+            case GREEN -> TrafficLightColor.ORANGE;
+            case ORANGE -> TrafficLightColor.RED;
+        };
+    }
+
+    private static TrafficLightColor[] randomize(PackedTrafficLights lights, Random random) {
+        TrafficLightColor[] expected = new TrafficLightColor[lights.size()];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = TrafficLightColor.values()[random.nextInt(3)];
+            lights.setColor(i, expected[i]);
+        }
+        return expected;
+    }
+
+    private static void assertColors(TrafficLightColor[] expected, PackedTrafficLights lights) {
+        for (int i = 0; i < expected.length; i++) {
+            Assertions.assertEquals(expected[i], lights.color(i), "light " + i);
+        }
+    }
+
+    public static Stream<Arguments> provideRanges() {
+        return Stream.of(
+                Arguments.of(100, 0, 100),
+                Arguments.of(100, 0, 0),
+                Arguments.of(100, 3, 4),
+                Arguments.of(100, 5, 29),
+                Arguments.of(100, 31, 33),
+                Arguments.of(100, 32, 64),
+                Arguments.of(100, 17, 99),
+                Arguments.of(64, 1, 64),
+                Arguments.of(1, 0, 1)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideRanges")
+    void shouldAdvanceOnlyTheLightsInRange(int size, int from, int to) {
+        var lights = new PackedTrafficLights(size);
+        TrafficLightColor[] expected = randomize(lights, new Random(size * 31L + from));
+
+        lights.advance(from, to);
+        for (int i = from; i < to; i++) {
+            expected[i] = next(expected[i]);
+        }
+
+        assertColors(expected, lights);
+    }
+
+    @Test
+    void shouldCycleBackToRedAfterThreeSteps() {
+        var lights = new PackedTrafficLights(70);
+        for (TrafficLightColor color : new TrafficLightColor[]{TrafficLightColor.GREEN, TrafficLightColor.ORANGE, TrafficLightColor.RED}) {
+            lights.advance(0, lights.size());
+            for (int i = 0; i < lights.size(); i++) {
+                Assertions.assertEquals(color, lights.color(i));
+            }
+        }
+    }
+
+    @Test
+    void shouldAdvanceInParallelLikeSequentially() {
+        int size = 5 * PackedLanes.PARALLEL_THRESHOLD + 7;
+        var lights = new PackedTrafficLights(size);
+        TrafficLightColor[] expected = randomize(lights, new Random(42));
+
+        lights.advanceInParallel(13, size - 5);
+        for (int i = 13; i < size - 5; i++) {
+            expected[i] = next(expected[i]);
+        }
+
+        assertColors(expected, lights);
+    }
+
+    @ParameterizedTest
+    @EnumSource(TrafficLightColor.class)
+    void shouldConvertToTrafficLight(TrafficLightColor color) {
+        var lights = new PackedTrafficLights(40);
+        lights.setColor(37, color);
+
+        var light = lights.trafficLight(37);
+        Assertions.assertEquals(color == TrafficLightColor.RED, light.redOn());
+        Assertions.assertEquals(color == TrafficLightColor.ORANGE, light.orangeOn());
+        Assertions.assertEquals(color == TrafficLightColor.GREEN, light.greenOn());
+        Assertions.assertEquals(TrafficLightColor.RED, lights.color(36));
+        Assertions.assertEquals(TrafficLightColor.RED, lights.color(38));
+    }
+
+    @Test
+    void shouldRejectOutOfBoundsRanges() {
+        var lights = new PackedTrafficLights(10);
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> lights.advance(0, 11));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> lights.advance(5, 4));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> lights.color(10));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new PackedTrafficLights(-1));
+    }
+}
@@ -0,0 +1,112 @@
+package sbuch.presentation.examples;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+class QuackDispatcherTest {
+
+    public static class StaticQuacker {
+        public static String quack() {
+            return "static quack";
+        }
+    }
+
+    public static class CountingQuacker {
+        public int quacks;
+
+        public int quack() {
+            return ++quacks;
+        }
+    }
+
+    public static class SilentQuacker {
+        public void quack() {
+        }
+    }
+
+    public static class BrokenQuacker {
+        public String quack() {
+            throw new IllegalStateException("broken");
+        }
+    }
+
+    public static class ErrorQuacker {
+        public String quack() {
+            throw new AssertionError("error");
+        }
+    }
+
+    public static class CheckedQuacker {
+        public String quack() throws Exception {
+            throw new Exception("checked");
+        }
+    }
+
+    public static Stream<Arguments> provideQuackers() {
+        return Stream.of(
+                Arguments.of(new Duck(), "QUACK"),
+                Arguments.of(new BabyDuck(), "QUACK QUACK QUACK"),
+                Arguments.of(new RubberDuck(), "SQUEAK"),
+                Arguments.of(new FreckledDuck(), "quack"),
+                Arguments.of(new StaticQuacker(), "static quack"),
+                Arguments.of(new CountingQuacker(), 1),
+                Arguments.of(new SilentQuacker(), null)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideQuackers")
+    void shouldCallTheQuackMethodOfTheReceiver(Object quacker, Object expected) {
+        var adapter = QuackDispatcher.adapterFor(quacker.getClass());
+
+        Assertions.assertTrue(adapter.isPresent());
+        Assertions.assertEquals(expected, adapter.get().quack(quacker));
+    }
+
+    @Test
+    void shouldCacheOneAdapterPerClass() {
+        var adapter = QuackDispatcher.adapterFor(FreckledDuck.class);
+
+        Assertions.assertSame(adapter.orElseThrow(), QuackDispatcher.adapterFor(FreckledDuck.class).orElseThrow());
+        Assertions.assertNotSame(adapter.orElseThrow(), QuackDispatcher.adapterFor(Duck.class).orElseThrow());
+    }
+
+    @Test
+    void shouldMarkClassesWithoutQuackMethod() {
+        Assertions.assertTrue(QuackDispatcher.adapterFor(Dog.class).isEmpty());
+        Assertions.assertTrue(QuackDispatcher.adapterFor(Object.class).isEmpty());
+    }
+
+    @Test
+    void shouldPropagateExceptionsThrownByQuack() {
+        var adapter = QuackDispatcher.adapterFor(BrokenQuacker.class).orElseThrow();
+
+        var thrown = Assertions.assertThrows(IllegalStateException.class, () -> adapter.quack(new BrokenQuacker()));
+        Assertions.assertEquals("broken", thrown.getMessage());
+    }
+
+    @Test
+    void shouldQuackAnythingWithoutThrowing() {
+        Assertions.assertDoesNotThrow(() -> DuckExample.main(new String[0]));
+        Assertions.assertDoesNotThrow(() -> DuckExample.makeStuffQuack(new Dog()));
+    }
+
+    public static Stream<Arguments> provideThrowingQuackers() {
+        return Stream.of(
+                Arguments.of(new BrokenQuacker(), IllegalStateException.class),
+                Arguments.of(new ErrorQuacker(), AssertionError.class),
+                Arguments.of(new CheckedQuacker(), Exception.class)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideThrowingQuackers")
+    void shouldPropagateWhateverQuackThrows(Object quacker, Class<? extends Throwable> expected) {
+        Assertions.assertThrows(expected, () -> DuckExample.makeStuffQuack(quacker));
+    }
+}
@@ -0,0 +1,69 @@
+package sbuch.presentation.examples.meeting;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import sbuch.presentation.examples.meeting.core.InPersonMeeting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+class MeetingBatchProcessorTest {
+
+    private static final String VALID = """
+            {"title": "Meeting %d", "contactEmail": "john.doe@acme.org", "type": "in_person", "meetingRoom": "large", "nGuests": %d}
+            """;
+    private static final String INVALID_RAW = """
+            {"title": "Meeting %d", "contactEmail": "john.doe@acme.org", "type": "in_person", "meetingRoom": "huge", "nGuests": %d}
+            """;
+    private static final String INVALID_DOMAIN = """
+            {"title": "Meeting %d", "contactEmail": "john.doe@gmail.com", "type": "in_person", "meetingRoom": "large", "nGuests": %d}
+            """;
+
+    private static List<String> payloads(int size) {
+        List<String> payloads = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String template = switch (i % 5) {
+                case 3 -> INVALID_RAW;
+                case 4 -> INVALID_DOMAIN;
+                default -> VALID;
+            };
+            payloads.add(template.formatted(i, 1 + i % 200));
+        }
+        return payloads;
+    }
+
+    @Test
+    void shouldReturnResultsInInputOrderWithCounts() throws InterruptedException {
+        var payloads = payloads(1_003);
+
+        var batch = MeetingBatchProcessor.withVirtualThreads(4).process(payloads);
+
+        Assertions.assertEquals(1_003, batch.total());
+        Assertions.assertEquals(603, batch.succeeded());
+        Assertions.assertEquals(200, batch.rejectedRaw());
+        Assertions.assertEquals(200, batch.rejectedDomain());
+        for (int i = 0; i < payloads.size(); i++) {
+            var result = batch.results().get(i);
+            Assertions.assertEquals(i % 5 >= 3, result.hasFailedValidation());
+            if (!result.hasFailedValidation())
+                Assertions.assertEquals("Meeting " + i, ((InPersonMeeting) result.getValue()).title);
+        }
+    }
+
+    @Test
+    void shouldRunOnProvidedExecutor() throws InterruptedException {
+        try (var executor = Executors.newFixedThreadPool(2)) {
+            var batch = new MeetingBatchProcessor(executor, 2).process(payloads(10));
+
+            Assertions.assertEquals(6, batch.succeeded());
+        }
+    }
+
+    @Test
+    void shouldHandleEmptyBatch() throws InterruptedException {
+        var batch = MeetingBatchProcessor.withVirtualThreads().process(List.of());
+
+        Assertions.assertEquals(0, batch.total());
+    }
+}
@@ -1,93 +1,89 @@
 package sbuch.presentation.examples.meeting;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import sbuch.presentation.examples.meeting.core.*;
 import sbuch.presentation.examples.meeting.framework.MeetingFramework;
+import sbuch.presentation.examples.meeting.framework.MeetingFrameworkDeserializer;
 
-import java.net.MalformedURLException;
-import java.net.URI;
-import java.net.URISyntaxException;
 import java.util.stream.Stream;
 
 class MeetingExampleTest {
 
     public static Stream<Arguments> provideValidInput() {
-        try {
-            return Stream.of(
-                    // In-person meetings
-                    Arguments.of(
-                            new MeetingFramework.InPersonMeetingFramework(
-                                    "Team Meeting",
-                                    "john.doe@acme.org",
-                                    MeetingRoom.ROOM_101,
-                                    5
-                            )
-                    ),
-                    Arguments.of(
-                            new MeetingFramework.InPersonMeetingFramework(
-                                    "Department Meeting",
-                                    "jane.smith@acme.org",
-                                    MeetingRoom.ROOM_42,
-                                    15
-                            )
-                    ),
-                    Arguments.of(
-                            new MeetingFramework.InPersonMeetingFramework(
-                                    "Exact Room Capacity - Small",
-                                    "john.doe@acme.org",
-                                    MeetingRoom.ROOM_101,
-                                    20
-                            )
-                    ),
-                    Arguments.of(
-                            new MeetingFramework.InPersonMeetingFramework(
-                                    "Exact Room Capacity - Medium",
-                                    "jane.smith@acme.org",
-                                    MeetingRoom.ROOM_42,
-                                    50
-                            )
-                    ),
-                    Arguments.of(
-                            new MeetingFramework.InPersonMeetingFramework(
-                                    "Exact Room Capacity - Large",
-                                    "ceo.boss@acme.org",
-                                    MeetingRoom.AMPHITHEATER,
-                                    200
-                            )
-                    ),
-                    Arguments.of(
-                            new MeetingFramework.InPersonMeetingFramework(
-                                    "Minimum Guests",
-                                    "john.doe@acme.org",
-                                    MeetingRoom.ROOM_101,
-                                    1
-                            )
-                    ),
-
-                    // Online meetings
-                    Arguments.of(
-                            new MeetingFramework.OnlineMeetingFramework(
-                                    "Weekly Standup",
-                                    "team.lead@acme.org",
-                                    VideoPlatform.ZOOM,
-                                    new URI("https://zoom.us/j/123456789").toURL()
-                            )
-                    ),
-                    Arguments.of(
-                            new MeetingFramework.OnlineMeetingFramework(
-                                    "Project Review",
-                                    "project.manager@acme.org",
-                                    VideoPlatform.MEET,
-                                    new URI("https://meet.google.com/abc-defg-hij").toURL()
-                            )
-                    )
-            );
-        } catch (MalformedURLException | URISyntaxException e) {
-            throw new RuntimeException("Invalid URL in test data", e);
-        }
+        return Stream.of(
+                // In-person meetings
+                Arguments.of(
+                        new MeetingFramework.InPersonMeetingFramework(
+                                "Team Meeting",
+                                "john.doe@acme.org",
+                                MeetingRoom.ROOM_101,
+                                5
+                        )
+                ),
+                Arguments.of(
+                        new MeetingFramework.InPersonMeetingFramework(
+                                "Department Meeting",
+                                "jane.smith@acme.org",
+                                MeetingRoom.ROOM_42,
+                                15
+                        )
+                ),
+                Arguments.of(
+                        new MeetingFramework.InPersonMeetingFramework(
+                                "Exact Room Capacity - Small",
+                                "john.doe@acme.org",
+                                MeetingRoom.ROOM_101,
+                                20
+                        )
+                ),
+                Arguments.of(
+                        new MeetingFramework.InPersonMeetingFramework(
+                                "Exact Room Capacity - Medium",
+                                "jane.smith@acme.org",
+                                MeetingRoom.ROOM_42,
+                                50
+                        )
+                ),
+                Arguments.of(
+                        new MeetingFramework.InPersonMeetingFramework(
+                                "Exact Room Capacity - Large",
+                                "ceo.boss@acme.org",
+                                MeetingRoom.AMPHITHEATER,
+                                200
+                        )
+                ),
+                Arguments.of(
+                        new MeetingFramework.InPersonMeetingFramework(
+                                "Minimum Guests",
+                                "john.doe@acme.org",
+                                MeetingRoom.ROOM_101,
+                                1
+                        )
+                ),
+
+                // Online meetings
+                Arguments.of(
+                        new MeetingFramework.OnlineMeetingFramework(
+                                "Weekly Standup",
+                                "team.lead@acme.org",
+                                VideoPlatform.ZOOM,
+                                VideoLink.of("https://zoom.us/j/123456789").getValue()
+                        )
+                ),
+                Arguments.of(
+                        new MeetingFramework.OnlineMeetingFramework(
+                                "Project Review",
+                                "project.manager@acme.org",
+                                VideoPlatform.MEET,
+                                VideoLink.of("https://meet.google.com/abc-defg-hij").getValue()
+                        )
+                )
+        );
     }
 
     @ParameterizedTest
@@ -125,72 +121,98 @@ class MeetingExampleTest {
     }
 
     public static Stream<Arguments> provideInvalidInput() {
-        try {
-            return Stream.of(
-                    // Invalid email domain (in-person meeting)
-                    Arguments.of(
-                            new MeetingFramework.InPersonMeetingFramework(
-                                    "Invalid Meeting",
-                                    "firstname.lastname@gmail.com",
-                                    MeetingRoom.ROOM_101,
-                                    5
-                            ),
-                            "Email domain must be 'acme.org', 'gmail.com' is not valid."
-                    ),
-                    // Invalid email domain (online meeting)
-                    Arguments.of(
-                            new MeetingFramework.OnlineMeetingFramework(
-                                    "Invalid Meeting",
-                                    "firstname.lastname@gmail.com",
-                                    VideoPlatform.MEET,
-                                    new URI("https://meet.google.com/abc-defg-hij").toURL()
-                            ),
-                            "Email domain must be 'acme.org', 'gmail.com' is not valid."
-                    ),
-                    // Invalid username format
-                    Arguments.of(
-                            new MeetingFramework.InPersonMeetingFramework(
-                                    "Invalid Meeting",
-                                    "johndoe@acme.org",
-                                    MeetingRoom.ROOM_101,
-                                    5
-                            ),
-                            "Username must be 'firstname.lastname', 'johndoe' is not valid."
-                    ),
-                    // Room capacity exceeded for Room-101
-                    Arguments.of(
-                            new MeetingFramework.InPersonMeetingFramework(
-                                    "Room Capacity Exceeded",
-                                    "john.doe@acme.org",
-                                    MeetingRoom.ROOM_101,
-                                    21
-                            ),
-                            "max capacity for room 101 is 20 (21 guests required)"
-                    ),
-                    // Room capacity exceeded for Room-42
-                    Arguments.of(
-                            new MeetingFramework.InPersonMeetingFramework(
-                                    "Room Capacity Exceeded",
-                                    "jane.smith@acme.org",
-                                    MeetingRoom.ROOM_42,
-                                    51
-                            ),
-                            "max capacity for room 42 is 50 (51 guests required)"
-                    ),
-                    // Room capacity exceeded for Amphitheater
-                    Arguments.of(
-                            new MeetingFramework.InPersonMeetingFramework(
-                                    "Room Capacity Exceeded",
-                                    "ceo.boss@acme.org",
-                                    MeetingRoom.AMPHITHEATER,
-                                    201
-                            ),
-                            "max capacity for the amphitheater is 200 (201 guests required)"
-                    )
-            );
-        } catch (MalformedURLException | URISyntaxException e) {
-            throw new RuntimeException("Invalid URL in test data", e);
-        }
+        return Stream.of(
+                // Invalid email domain (in-person meeting)
+                Arguments.of(
+                        new MeetingFramework.InPersonMeetingFramework(
+                                "Invalid Meeting",
+                                "firstname.lastname@gmail.com",
+                                MeetingRoom.ROOM_101,
+                                5
+                        ),
+                        "Email domain must be 'acme.org', 'gmail.com' is not valid."
+                ),
+                // Invalid email domain (online meeting)
+                Arguments.of(
+                        new MeetingFramework.OnlineMeetingFramework(
+                                "Invalid Meeting",
+                                "firstname.lastname@gmail.com",
+                                VideoPlatform.MEET,
+                                VideoLink.of("https://meet.google.com/abc-defg-hij").getValue()
+                        ),
+                        "Email domain must be 'acme.org', 'gmail.com' is not valid."
+                ),
+                // Invalid username format
+                Arguments.of(
+                        new MeetingFramework.InPersonMeetingFramework(
+                                "Invalid Meeting",
+                                "johndoe@acme.org",
+                                MeetingRoom.ROOM_101,
+                                5
+                        ),
+                        "Username must be 'firstname.lastname', 'johndoe' is not valid."
+                ),
+                // Too many dots in username
+                Arguments.of(
+                        new MeetingFramework.InPersonMeetingFramework(
+                                "Invalid Meeting",
+                                "john.h.doe@acme.org",
+                                MeetingRoom.ROOM_101,
+                                5
+                        ),
+                        "Username must be 'firstname.lastname', 'john.h.doe' is not valid."
+                ),
+                // Missing '@'
+                Arguments.of(
+                        new MeetingFramework.OnlineMeetingFramework(
+                                "Invalid Meeting",
+                                "john.doe",
+                                VideoPlatform.MEET,
+                                VideoLink.of("https://meet.google.com/abc-defg-hij").getValue()
+                        ),
+                        "Email must be 'username@domain', 'john.doe' is not valid."
+                ),
+                // Video link hosted on another platform
+                Arguments.of(
+                        new MeetingFramework.OnlineMeetingFramework(
+                                "Invalid Meeting",
+                                "team.lead@acme.org",
+                                VideoPlatform.ZOOM,
+                                VideoLink.of("https://meet.google.com/abc-defg-hij").getValue()
+                        ),
+                        "Video link for zoom must be hosted on zoom.us, 'https://meet.google.com/abc-defg-hij' is not valid."
+                ),
+                // Room capacity exceeded for Room-101
+                Arguments.of(
+                        new MeetingFramework.InPersonMeetingFramework(
+                                "Room Capacity Exceeded",
+                                "john.doe@acme.org",
+                                MeetingRoom.ROOM_101,
+                                21
+                        ),
+                        "max capacity for room 101 is 20 (21 guests required)"
+                ),
+                // Room capacity exceeded for Room-42
+                Arguments.of(
+                        new MeetingFramework.InPersonMeetingFramework(
+                                "Room Capacity Exceeded",
+                                "jane.smith@acme.org",
+                                MeetingRoom.ROOM_42,
+                                51
+                        ),
+                        "max capacity for room 42 is 50 (51 guests required)"
+                ),
+                // Room capacity exceeded for Amphitheater
+                Arguments.of(
+                        new MeetingFramework.InPersonMeetingFramework(
+                                "Room Capacity Exceeded",
+                                "ceo.boss@acme.org",
+                                MeetingRoom.AMPHITHEATER,
+                                201
+                        ),
+                        "max capacity for the amphitheater is 200 (201 guests required)"
+                )
+        );
     }
 
     @ParameterizedTest
@@ -202,6 +224,53 @@ class MeetingExampleTest {
         Assertions.assertEquals(expectedErrorMessage, result.getError().getMessage());
     }
 
+    @Test
+    void shouldShareCanonicalContactsBetweenMeetings() {
+        var cache = CorporateContactCache.shared();
+        long hitsBefore = cache.hitCount();
+
+        var inPerson = (InPersonMeeting) InPersonMeeting.of("Team Meeting", "shared.organizer@acme.org", MeetingRoom.ROOM_101, 5).getValue();
+        var online = (OnlineMeeting) OnlineMeeting.of("Weekly Standup", "shared.organizer@acme.org", VideoPlatform.ZOOM, VideoLink.of("https://zoom.us/j/1").getValue()).getValue();
+
+        Assertions.assertSame(inPerson.contact, online.contact);
+        Assertions.assertTrue(cache.hitCount() > hitsBefore);
+    }
+
+    @ParameterizedTest
+    @MethodSource("sbuch.presentation.examples.meeting.framework.MeetingFrameworkDeserializerTest#provideRawInputsOfEveryKind")
+    @ValueSource(strings = {
+            """
+            {"title": "Type last", "contactEmail": "john.doe@acme.org", "meetingRoom": "medium", "nGuests": "12", "type": "in_person"}
+            """,
+            """
+            {"type": "in_person", "title": "Foreign domain", "contactEmail": "john.doe@gmail.com", "meetingRoom": "small", "nGuests": 5}
+            """,
+            """
+            {"type": "in_person", "title": "Over capacity", "contactEmail": "john.doe@acme.org", "meetingRoom": "large", "nGuests": 201}
+            """,
+            """
+            {"type": "online", "title": "Bad username", "contactEmail": "johndoe@acme.org", "videoPlatform": "zoom", "videoLink": "https://zoom.us/j/1"}
+            """,
+            """
+            {"type": "online", "title": "  ", "contactEmail": "john.doe@acme.org", "videoPlatform": "zoom", "videoLink": "https://zoom.us/j/1"}
+            """,
+            "null",
+            "[]"
+    })
+    void shouldDecodeRawJsonLikeTheThreeStagePath(String rawJson) {
+        var framework = MeetingFrameworkDeserializer.createMeetingFromRaw(rawJson);
+        var expected = framework.hasFailedValidation()
+                ? ValidationResult.<Meeting>failure(framework.getError())
+                : MeetingExample.createMeetingFromFrameworkValidated(framework.getValue());
+
+        var actual = MeetingExample.createMeetingFromRaw(rawJson);
+
+        Assertions.assertEquals(expected.hasFailedValidation(), actual.hasFailedValidation());
+        if (expected.hasFailedValidation())
+            Assertions.assertEquals(expected.getError().getMessage(), actual.getError().getMessage());
+        else
+            Assertions.assertEquals(expected.getValue(), actual.getValue());
+    }
 
     private CorporateContact validCorporateContact(String email) {
         var contact = CorporateContact.of(email);
@@ -0,0 +1,128 @@
+package sbuch.presentation.examples.meeting;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import sbuch.presentation.examples.meeting.audit.AuditLog;
+import sbuch.presentation.examples.meeting.audit.OverflowPolicy;
+import sbuch.presentation.examples.meeting.core.Meeting;
+import sbuch.presentation.examples.meeting.core.MeetingRoom;
+import sbuch.presentation.examples.meeting.core.ValidationResult;
+import sbuch.presentation.examples.meeting.framework.MeetingFramework;
+import sbuch.presentation.examples.meeting.framework.MeetingIngestionPipeline;
+import sbuch.presentation.examples.meeting.storage.FsyncPolicy;
+import sbuch.presentation.examples.meeting.storage.MeetingLog;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+class MeetingFlightRecorderTest {
+    private static final String[] EVENTS = {
+            "sbuch.meeting.Payload",
+            "sbuch.meeting.Parse",
+            "sbuch.meeting.BeanValidation",
+            "sbuch.meeting.DomainValidation",
+            "sbuch.meeting.Save"
+    };
+
+    @TempDir
+    Path directory;
+
+    private List<RecordedEvent> record(Runnable ingestion) throws IOException {
+        try (Recording recording = new Recording()) {
+            for (String event : EVENTS) {
+                recording.enable(event).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+            ingestion.run();
+            recording.stop();
+
+            Path dump = directory.resolve("ingestion.jfr");
+            recording.dump(dump);
+            return RecordingFile.readAllEvents(dump);
+        }
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> named = events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+        Assertions.assertEquals(1, named.size(), name);
+        return named.getFirst();
+    }
+
+    @Test
+    void shouldRecordEveryStageOfAnAcceptedMeeting() throws IOException {
+        String rawJson = """
+                {"type": "in_person", "title": "Réunion", "contactEmail": "john.doe@acme.org", "meetingRoom": "small", "nGuests": 5}
+                """;
+
+        List<RecordedEvent> events = record(() -> {
+            ValidationResult<MeetingFramework> framework = new MeetingIngestionPipeline().createMeetingFromRaw(rawJson);
+            Meeting meeting = MeetingExample.createMeetingFromFrameworkValidated(framework.getValue()).getValue();
+            try (MeetingLog log = MeetingLog.open(directory.resolve("log"), FsyncPolicy.NEVER, 4096);
+                 AuditLog auditLog = AuditLog.open(directory.resolve("audit"), OverflowPolicy.BLOCK)) {
+                new MeetingExample(log, auditLog).saveToRepo(meeting);
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+        });
+
+        long payloadSize = rawJson.getBytes(StandardCharsets.UTF_8).length;
+        for (String name : new String[]{"sbuch.meeting.Payload", "sbuch.meeting.Parse", "sbuch.meeting.BeanValidation"}) {
+            RecordedEvent event = single(events, name);
+            Assertions.assertEquals("in_person", event.getString("meetingType"), name);
+            Assertions.assertEquals(payloadSize, event.getLong("payloadSize"), name);
+        }
+        Assertions.assertEquals("accepted", single(events, "sbuch.meeting.Payload").getString("outcome"));
+        Assertions.assertEquals("parsed", single(events, "sbuch.meeting.Parse").getString("outcome"));
+        Assertions.assertEquals("valid", single(events, "sbuch.meeting.BeanValidation").getString("outcome"));
+
+        RecordedEvent domain = single(events, "sbuch.meeting.DomainValidation");
+        RecordedEvent save = single(events, "sbuch.meeting.Save");
+        Assertions.assertEquals("accepted", domain.getString("outcome"));
+        Assertions.assertEquals("saved", save.getString("outcome"));
+        Assertions.assertEquals(domain.getLong("payloadSize"), save.getLong("payloadSize"));
+        Assertions.assertTrue(save.getLong("payloadSize") > 0);
+    }
+
+    @Test
+    void shouldRecordTheOutcomeOfARejectedMeeting() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            new MeetingIngestionPipeline().createMeetingFromRaw("{\"type\": \"online\", \"title\": ");
+            MeetingExample.createMeetingFromFrameworkValidated(
+                    new MeetingFramework.InPersonMeetingFramework("Too many", "john.doe@acme.org", MeetingRoom.ROOM_101, 21));
+        });
+
+        Assertions.assertEquals("INVALID_RAW_OBJECT", single(events, "sbuch.meeting.Payload").getString("outcome"));
+        Assertions.assertEquals("malformed", single(events, "sbuch.meeting.Parse").getString("outcome"));
+        Assertions.assertTrue(events.stream().noneMatch(event -> event.getEventType().getName().equals("sbuch.meeting.BeanValidation")));
+
+        RecordedEvent domain = single(events, "sbuch.meeting.DomainValidation");
+        Assertions.assertEquals("in_person", domain.getString("meetingType"));
+        Assertions.assertEquals("ROOM_OVER_CAPACITY", domain.getString("outcome"));
+        Assertions.assertEquals(-1, domain.getLong("payloadSize"));
+    }
+
+    @Test
+    void shouldSkipFastStagesUnderTheDefaultThreshold() throws IOException {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            for (String event : EVENTS) {
+                recording.enable(event);
+            }
+            recording.start();
+            new MeetingIngestionPipeline().warmUp();
+            recording.stop();
+            Path dump = directory.resolve("thresholded.jfr");
+            recording.dump(dump);
+            events = RecordingFile.readAllEvents(dump);
+        }
+
+        Assertions.assertTrue(events.stream().allMatch(event -> event.getDuration().compareTo(Duration.ofMillis(1)) >= 0));
+    }
+}
@@ -0,0 +1,198 @@
+package sbuch.presentation.examples.meeting.audit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import sbuch.presentation.examples.meeting.core.InPersonMeeting;
+import sbuch.presentation.examples.meeting.core.Meeting;
+import sbuch.presentation.examples.meeting.core.MeetingRoom;
+import sbuch.presentation.examples.meeting.core.OnlineMeeting;
+import sbuch.presentation.examples.meeting.core.VideoLink;
+import sbuch.presentation.examples.meeting.core.VideoPlatform;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+class AuditLogTest {
+    private static final Meeting IN_PERSON = InPersonMeeting.of("Team Meeting", "john.doe@acme.org", MeetingRoom.ROOM_42, 5).getValue();
+    private static final Meeting ONLINE = OnlineMeeting.of("Sync", "jane.smith@acme.org", VideoPlatform.ZOOM, VideoLink.of("https://zoom.us/j/1").getValue()).getValue();
+
+    @TempDir
+    Path directory;
+
+    private List<Path> files() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private List<String> lines() throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (Path file : files()) {
+            lines.addAll(Files.readAllLines(file));
+        }
+        return lines;
+    }
+
+    @Test
+    void shouldWriteOneLinePerRecordedMeeting() throws IOException {
+        try (AuditLog auditLog = AuditLog.open(directory, OverflowPolicy.BLOCK)) {
+            Assertions.assertTrue(auditLog.record(IN_PERSON));
+            Assertions.assertTrue(auditLog.record(ONLINE));
+        }
+
+        List<String> lines = lines();
+        Assertions.assertEquals(2, lines.size());
+        Assertions.assertTrue(lines.get(0).endsWith("\tin_person\tRoom-42\tjohn.doe@acme.org"), lines.get(0));
+        Assertions.assertTrue(lines.get(1).endsWith("\tonline\t" + VideoPlatform.ZOOM + "\tjane.smith@acme.org"), lines.get(1));
+    }
+
+    @Test
+    void shouldNotLoseEntriesOfConcurrentWritersWhenBlocking() throws Exception {
+        int writers = 8;
+        int perWriter = 5_000;
+        AuditLog auditLog = AuditLog.open(directory, OverflowPolicy.BLOCK, 64, AuditLog.DEFAULT_MAX_FILE_SIZE);
+        try (ExecutorService executor = Executors.newFixedThreadPool(writers)) {
+            for (int w = 0; w < writers; w++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < perWriter; i++) {
+                        auditLog.record(i % 2 == 0 ? IN_PERSON : ONLINE);
+                    }
+                });
+            }
+        }
+        auditLog.close();
+
+        Assertions.assertEquals(0, auditLog.droppedCount());
+        Assertions.assertEquals(writers * perWriter, auditLog.writtenCount());
+        Assertions.assertEquals(writers * perWriter, lines().size());
+    }
+
+    @Test
+    void shouldDropAndCountEntriesWhenFull() throws IOException {
+        AuditLog auditLog = AuditLog.create(directory, OverflowPolicy.DROP, 4, AuditLog.DEFAULT_MAX_FILE_SIZE);
+        int recorded = 0;
+        for (int i = 0; i < 10; i++) {
+            if (auditLog.record(IN_PERSON))
+                recorded++;
+        }
+        auditLog.close();
+
+        Assertions.assertEquals(4, recorded);
+        Assertions.assertEquals(6, auditLog.droppedCount());
+        Assertions.assertEquals(4, lines().size());
+    }
+
+    @Test
+    void shouldBlockWritersUntilTheBufferHasRoom() throws Exception {
+        AuditLog auditLog = AuditLog.create(directory, OverflowPolicy.BLOCK, 4, AuditLog.DEFAULT_MAX_FILE_SIZE);
+        Thread producer = Thread.ofPlatform().start(() -> {
+            for (int i = 0; i < 5; i++) {
+                auditLog.record(ONLINE);
+            }
+        });
+
+        producer.join(200);
+        Assertions.assertTrue(producer.isAlive());
+        Assertions.assertEquals(4, auditLog.pendingCount());
+
+        auditLog.start();
+        producer.join();
+        auditLog.close();
+        Assertions.assertEquals(5, lines().size());
+    }
+
+    @Test
+    void shouldRollToANewFileWhenFull() throws IOException {
+        try (AuditLog auditLog = AuditLog.open(directory, OverflowPolicy.BLOCK, 16, 256)) {
+            for (int i = 0; i < 100; i++) {
+                auditLog.record(IN_PERSON);
+            }
+        }
+
+        Assertions.assertTrue(files().size() > 1);
+        Assertions.assertEquals(100, lines().size());
+    }
+
+    @Test
+    void shouldAppendToTheLastFileWhenReopened() throws IOException {
+        try (AuditLog auditLog = AuditLog.open(directory, OverflowPolicy.BLOCK)) {
+            auditLog.record(IN_PERSON);
+        }
+        try (AuditLog auditLog = AuditLog.open(directory, OverflowPolicy.BLOCK)) {
+            auditLog.record(ONLINE);
+        }
+
+        Assertions.assertEquals(1, files().size());
+        Assertions.assertEquals(2, lines().size());
+    }
+
+    @Test
+    void shouldRejectRecordsOnceClosed() throws IOException {
+        AuditLog auditLog = AuditLog.open(directory, OverflowPolicy.DROP);
+        auditLog.close();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> auditLog.record(IN_PERSON));
+    }
+
+    @Test
+    void shouldRejectNullMeetingWithoutStallingTheWriter() throws Exception {
+        AuditLog auditLog = AuditLog.open(directory, OverflowPolicy.BLOCK);
+        Assertions.assertThrows(NullPointerException.class, () -> auditLog.record(null));
+        Assertions.assertTrue(auditLog.record(IN_PERSON));
+
+        Thread closer = Thread.ofPlatform().start(auditLog::close);
+        Assertions.assertTrue(closer.join(Duration.ofSeconds(10)));
+        Assertions.assertEquals(1, lines().size());
+    }
+
+    @Test
+    void shouldWriteEveryAcceptedEntryOfWritersRacingClose() throws Exception {
+        AuditLog auditLog = AuditLog.open(directory, OverflowPolicy.BLOCK, 64, AuditLog.DEFAULT_MAX_FILE_SIZE);
+        List<Future<Integer>> writers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int w = 0; w < 4; w++) {
+                writers.add(executor.submit(() -> {
+                    int accepted = 0;
+                    try {
+                        while (auditLog.record(IN_PERSON)) {
+                            accepted++;
+                        }
+                    } catch (IllegalStateException closed) {
+                        // expected once the log is closed
+                    }
+                    return accepted;
+                }));
+            }
+            TimeUnit.MILLISECONDS.sleep(50);
+            auditLog.close();
+        }
+
+        int accepted = 0;
+        for (Future<Integer> writer : writers) {
+            accepted += writer.get();
+        }
+        Assertions.assertEquals(accepted, auditLog.writtenCount());
+        Assertions.assertEquals(accepted, lines().size());
+    }
+
+    @Test
+    void shouldIgnoreUnrelatedFilesWhenReopened() throws IOException {
+        Files.writeString(directory.resolve("audit-backup.log"), "");
+        Files.writeString(directory.resolve("audit-000003.log"), "");
+        try (AuditLog auditLog = AuditLog.open(directory, OverflowPolicy.BLOCK)) {
+            auditLog.record(IN_PERSON);
+        }
+
+        Assertions.assertEquals(1, Files.readAllLines(directory.resolve("audit-000003.log")).size());
+    }
+}
@@ -0,0 +1,107 @@
+package sbuch.presentation.examples.meeting.booking;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import sbuch.presentation.examples.meeting.core.InPersonMeeting;
+import sbuch.presentation.examples.meeting.core.MeetingRoom;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+class BookingEngineTest {
+
+    private static final Instant NINE = Instant.parse("2025-06-02T09:00:00Z");
+
+    private static InPersonMeeting meeting(MeetingRoom room, int startMinutes, int endMinutes) {
+        return (InPersonMeeting) InPersonMeeting.of(
+                "Meeting", "john.doe@acme.org", room, 5,
+                NINE.plus(Duration.ofMinutes(startMinutes)), NINE.plus(Duration.ofMinutes(endMinutes))
+        ).getValue();
+    }
+
+    public static Stream<Arguments> provideCandidates() {
+        // The room is booked from 9:30 to 10:30
+        return Stream.of(
+                Arguments.of(0, 30, null),
+                Arguments.of(90, 120, null),
+                Arguments.of(0, 31, "room 101 is already booked from 2025-06-02T09:30:00Z to 2025-06-02T10:30:00Z"),
+                Arguments.of(89, 120, "room 101 is already booked from 2025-06-02T09:30:00Z to 2025-06-02T10:30:00Z"),
+                Arguments.of(45, 60, "room 101 is already booked from 2025-06-02T09:30:00Z to 2025-06-02T10:30:00Z"),
+                Arguments.of(0, 240, "room 101 is already booked from 2025-06-02T09:30:00Z to 2025-06-02T10:30:00Z")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideCandidates")
+    void shouldDetectConflicts(int startMinutes, int endMinutes, String expectedError) {
+        var engine = new BookingEngine();
+        Assertions.assertFalse(engine.book(meeting(MeetingRoom.ROOM_101, 30, 90)).hasFailedValidation());
+
+        var result = engine.book(meeting(MeetingRoom.ROOM_101, startMinutes, endMinutes));
+
+        if (expectedError == null) {
+            Assertions.assertFalse(result.hasFailedValidation());
+        } else {
+            Assertions.assertTrue(result.hasFailedValidation());
+            Assertions.assertEquals(expectedError, result.getError().getMessage());
+        }
+        Assertions.assertFalse(engine.book(meeting(MeetingRoom.ROOM_42, startMinutes, endMinutes)).hasFailedValidation());
+    }
+
+    @Test
+    void shouldRejectInvalidAndUnscheduledMeetings() {
+        var engine = new BookingEngine();
+
+        Assertions.assertEquals(
+                "Meeting must end after it starts, 2025-06-02T09:00:00Z is not before 2025-06-02T09:00:00Z",
+                InPersonMeeting.of("Meeting", "john.doe@acme.org", MeetingRoom.ROOM_101, 5, NINE, NINE).getError().getMessage()
+        );
+        Assertions.assertTrue(engine.book((InPersonMeeting) InPersonMeeting.of("Meeting", "john.doe@acme.org", MeetingRoom.ROOM_101, 5).getValue()).hasFailedValidation());
+    }
+
+    @Test
+    void shouldListAndCancelBookings() {
+        var engine = new BookingEngine();
+        var first = meeting(MeetingRoom.AMPHITHEATER, 0, 60);
+        var second = meeting(MeetingRoom.AMPHITHEATER, 60, 120);
+        var third = meeting(MeetingRoom.AMPHITHEATER, 180, 240);
+        engine.book(first);
+        engine.book(second);
+        engine.book(third);
+
+        Assertions.assertEquals(List.of(first, second), engine.bookings(MeetingRoom.AMPHITHEATER, NINE.plusSeconds(1800), NINE.plusSeconds(7200)));
+        Assertions.assertTrue(engine.cancel(second));
+        Assertions.assertFalse(engine.cancel(second));
+        Assertions.assertEquals(List.of(first, third), engine.bookings(MeetingRoom.AMPHITHEATER, NINE, NINE.plusSeconds(86400)));
+    }
+
+    @Test
+    void shouldAcceptExactlyOneOfConcurrentConflictingBookings() throws Exception {
+        var engine = new BookingEngine();
+        var accepted = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> futures = Stream.<Future<?>>generate(() -> executor.submit(() -> {
+                for (int slot = 0; slot < 1_000; slot++) {
+                    if (!engine.book(meeting(MeetingRoom.ROOM_42, slot * 10, slot * 10 + 15)).hasFailedValidation())
+                        accepted.incrementAndGet();
+                }
+            })).limit(8).toList();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        Assertions.assertEquals(500, accepted.get());
+        Assertions.assertEquals(500, engine.size(MeetingRoom.ROOM_42));
+    }
+}
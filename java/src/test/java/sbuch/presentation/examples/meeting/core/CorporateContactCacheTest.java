@@ -0,0 +1,33 @@
+package sbuch.presentation.examples.meeting.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class CorporateContactCacheTest {
+
+    @Test
+    void shouldCacheValidContactsOnly() {
+        var cache = new CorporateContactCache(100);
+
+        var contact = cache.get("john.doe@acme.org", CorporateContact::parse);
+        var invalid = cache.get("john.doe@gmail.com", CorporateContact::parse);
+
+        Assertions.assertTrue(invalid.hasFailedValidation());
+        Assertions.assertEquals(1, cache.estimatedSize());
+        Assertions.assertSame(contact.getValue(), cache.get("john.doe@acme.org", CorporateContact::parse).getValue());
+        Assertions.assertEquals(1, cache.hitCount());
+        Assertions.assertEquals(2, cache.missCount());
+    }
+
+    @Test
+    void shouldNotEvictValidContactsForInvalidEmails() {
+        var cache = new CorporateContactCache(10);
+        var contact = cache.get("john.doe@acme.org", CorporateContact::parse).getValue();
+
+        for (int i = 0; i < 10_000; i++) {
+            Assertions.assertTrue(cache.get("john.doe" + i + "@gmail.com", CorporateContact::parse).hasFailedValidation());
+        }
+
+        Assertions.assertSame(contact, cache.get("john.doe@acme.org", CorporateContact::parse).getValue());
+    }
+}
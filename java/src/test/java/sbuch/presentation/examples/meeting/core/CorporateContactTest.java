@@ -0,0 +1,48 @@
+package sbuch.presentation.examples.meeting.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+class CorporateContactTest {
+
+    public static Stream<Arguments> provideNames() {
+        return Stream.of(
+                Arguments.of("john.doe@acme.org", "John", "DOE"),
+                Arguments.of("émile.straße@acme.org", "Émile", "STRASSE"),
+                Arguments.of("ßara.𐐨ee@acme.org", "SSara", "𐐀EE"),
+                Arguments.of("𐐨ara.doe@acme.org", "𐐀ara", "DOE"),
+                Arguments.of("ian.doe@acme.org", "Ian", "DOE"),
+                Arguments.of("j.doe@acme.org", "J", "DOE")
+        );
+    }
+
+    public static Stream<Arguments> provideRejectedEmails() {
+        return Stream.of(
+                Arguments.of("john.@acme.org", ErrorCode.BAD_USERNAME),
+                Arguments.of("john..doe@acme.org", ErrorCode.BAD_USERNAME),
+                Arguments.of("john.@gmail.com", ErrorCode.FOREIGN_EMAIL_DOMAIN),
+                Arguments.of(".john@acme.org", ErrorCode.MALFORMED_EMAIL),
+                Arguments.of("john.doe@", ErrorCode.MALFORMED_EMAIL)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideNames")
+    void shouldUpperCaseNamesLikeString(String email, String firstName, String lastName) {
+        CorporateContact contact = CorporateContact.of(email).getValue();
+
+        Assertions.assertEquals(firstName, contact.firstName);
+        Assertions.assertEquals(lastName, contact.lastName);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideRejectedEmails")
+    void shouldRejectEmail(String email, ErrorCode errorCode) {
+        Assertions.assertEquals(errorCode, CorporateContact.of(email).getError().getCode());
+        Assertions.assertFalse(CorporateEmail.isWellFormed(CorporateEmail.parse(email)));
+    }
+}
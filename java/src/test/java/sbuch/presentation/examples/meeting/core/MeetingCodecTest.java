@@ -0,0 +1,141 @@
+package sbuch.presentation.examples.meeting.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+class MeetingCodecTest {
+
+    public static Stream<Arguments> provideMeetings() {
+        return Stream.of(
+                Arguments.of(InPersonMeeting.of("Team Meeting", "john.doe@acme.org", MeetingRoom.ROOM_101, 5).getValue()),
+                Arguments.of(InPersonMeeting.of("Réunion d'équipe ☕ 📅", "jane.smith@acme.org", MeetingRoom.AMPHITHEATER, 200).getValue()),
+                Arguments.of(InPersonMeeting.of("", "ceo.boss@acme.org", MeetingRoom.ROOM_42, 50).getValue()),
+                Arguments.of(InPersonMeeting.of("Planning", "john.doe@acme.org", MeetingRoom.ROOM_42, 12, Instant.parse("2025-06-02T09:00:00.123456789Z"), Instant.parse("2025-06-02T10:00:00Z")).getValue()),
+                Arguments.of(InPersonMeeting.of("Retrospective", "john.doe@acme.org", MeetingRoom.ROOM_101, 3, Instant.parse("1969-07-20T20:17:00Z"), Instant.parse("1969-07-21T02:56:00Z")).getValue()),
+                Arguments.of(OnlineMeeting.of("Weekly Standup", "team.lead@acme.org", VideoPlatform.ZOOM, VideoLink.of("https://zoom.us/j/123456789").getValue()).getValue()),
+                Arguments.of(OnlineMeeting.of("Project Review", "project.manager@acme.org", VideoPlatform.MEET, VideoLink.of("https://meet.google.com/abc-defg-hij").getValue()).getValue())
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideMeetings")
+    void shouldRoundTripFromArraySlice(Meeting meeting) {
+        byte[] encoded = MeetingCodec.encode(meeting);
+        Assertions.assertEquals(MeetingCodec.encodedSize(meeting), encoded.length);
+
+        byte[] padded = new byte[encoded.length + 7];
+        System.arraycopy(encoded, 0, padded, 3, encoded.length);
+
+        Assertions.assertEquals(meeting, MeetingCodec.decode(padded, 3, encoded.length));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideMeetings")
+    void shouldRoundTripConsecutiveRecordsFromDirectBuffer(Meeting meeting) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(2 * MeetingCodec.encodedSize(meeting));
+        MeetingCodec.encode(meeting, buffer);
+        MeetingCodec.encode(meeting, buffer);
+        buffer.flip();
+
+        Assertions.assertEquals(meeting, MeetingCodec.decode(buffer));
+        Assertions.assertEquals(meeting, MeetingCodec.decode(buffer));
+        Assertions.assertFalse(buffer.hasRemaining());
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideMeetings")
+    void shouldReadFieldsThroughView(Meeting meeting) {
+        byte[] encoded = MeetingCodec.encode(meeting);
+        MeetingView view = MeetingCodec.view(encoded, 0, encoded.length);
+
+        switch (meeting) {
+            case InPersonMeeting inPersonMeeting -> {
+                Assertions.assertTrue(view.isInPerson());
+                Assertions.assertEquals(inPersonMeeting.meetingRoom, view.meetingRoom());
+                Assertions.assertEquals(inPersonMeeting.nGuests, view.numberOfGuests());
+                Assertions.assertEquals(inPersonMeeting.timeSlot, view.timeSlot());
+                Assertions.assertEquals(inPersonMeeting.title, view.title());
+                Assertions.assertEquals(inPersonMeeting.contact.email, view.contactEmail());
+                Assertions.assertThrows(IllegalStateException.class, view::videoPlatform);
+            }
+            case OnlineMeeting onlineMeeting -> {
+                Assertions.assertFalse(view.isInPerson());
+                Assertions.assertEquals(onlineMeeting.videoPlatform, view.videoPlatform());
+                Assertions.assertEquals(onlineMeeting.title, view.title());
+                Assertions.assertEquals(onlineMeeting.contact.email, view.contactEmail());
+                Assertions.assertEquals(onlineMeeting.videoLink, view.videoLink());
+                Assertions.assertThrows(IllegalStateException.class, view::meetingRoom);
+            }
+        }
+        Assertions.assertEquals(meeting, view.toMeeting());
+    }
+
+    @Test
+    void shouldRejectMalformedRecords() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> MeetingCodec.decode(new byte[]{9, 0}, 0, 2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> MeetingCodec.decode(new byte[]{1, 7, 1, 0, 0}, 0, 5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> MeetingCodec.decode(new byte[]{2, 0, 42, 'a'}, 0, 4));
+    }
+
+    public static Stream<Arguments> provideNonCanonicalVarints() {
+        return Stream.of(
+                Arguments.of((Object) new byte[]{(byte) 0x85, 0x00}),
+                Arguments.of((Object) new byte[]{(byte) 0x85, (byte) 0x80, 0x00}),
+                Arguments.of((Object) new byte[]{(byte) 0x85, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x10})
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideNonCanonicalVarints")
+    void shouldRejectPaddedVarints(byte[] nGuests) {
+        ByteBuffer padded = ByteBuffer.allocate(128);
+        padded.put(MeetingCodec.IN_PERSON).put((byte) MeetingRoom.ROOM_101.ordinal());
+        padded.put(nGuests);
+        MeetingCodec.putTimeSlot(padded, null);
+        MeetingCodec.putString(padded, "Team Meeting");
+        MeetingCodec.putString(padded, "john.doe@acme.org");
+        padded.flip();
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> MeetingCodec.decode(padded));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> MeetingCodec.view(padded.rewind()).numberOfGuests());
+    }
+
+    @Test
+    void shouldRejectPaddedStringLength() {
+        ByteBuffer padded = ByteBuffer.allocate(128);
+        padded.put(MeetingCodec.ONLINE).put((byte) VideoPlatform.ZOOM.ordinal());
+        padded.put((byte) (0x80 | 3)).put((byte) 0).put("abc".getBytes(StandardCharsets.UTF_8));
+        MeetingCodec.putString(padded, "team.lead@acme.org");
+        MeetingCodec.putString(padded, "https://zoom.us/j/1");
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> MeetingCodec.decode(padded.flip()));
+    }
+
+    @Test
+    void shouldRejectRecordsBreakingMeetingInvariants() {
+        ByteBuffer overCapacity = ByteBuffer.allocate(128);
+        overCapacity.put(MeetingCodec.IN_PERSON).put((byte) MeetingRoom.ROOM_101.ordinal());
+        MeetingCodec.putVarint(overCapacity, 21);
+        MeetingCodec.putTimeSlot(overCapacity, null);
+        MeetingCodec.putString(overCapacity, "Team Meeting");
+        MeetingCodec.putString(overCapacity, "john.doe@acme.org");
+
+        ByteBuffer foreignLink = ByteBuffer.allocate(128);
+        foreignLink.put(MeetingCodec.ONLINE).put((byte) VideoPlatform.ZOOM.ordinal());
+        MeetingCodec.putString(foreignLink, "Weekly Standup");
+        MeetingCodec.putString(foreignLink, "team.lead@acme.org");
+        MeetingCodec.putString(foreignLink, "https://meet.google.com/abc-defg-hij");
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> MeetingCodec.decode(overCapacity.flip()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> MeetingCodec.decode(foreignLink.flip()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> MeetingCodec.view(foreignLink.rewind()).toMeeting());
+    }
+}
@@ -0,0 +1,128 @@
+package sbuch.presentation.examples.meeting.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+class MeetingStoreTest {
+
+    private static List<Meeting> meetings() {
+        return MeetingCodecTest.provideMeetings().map(arguments -> (Meeting) arguments.get()[0]).toList();
+    }
+
+    @ParameterizedTest
+    @MethodSource("sbuch.presentation.examples.meeting.core.MeetingCodecTest#provideMeetings")
+    void shouldRoundTrip(Meeting meeting) {
+        MeetingStore store = new MeetingStore();
+        int row = store.append(meeting);
+
+        Assertions.assertEquals(0, row);
+        Assertions.assertEquals(1, store.size());
+        Assertions.assertEquals(meeting, store.get(row));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sbuch.presentation.examples.meeting.core.MeetingCodecTest#provideMeetings")
+    void shouldReadFieldsThroughRow(Meeting meeting) {
+        MeetingStore store = new MeetingStore();
+        store.append(meeting);
+
+        store.scan(row -> {
+            switch (meeting) {
+                case InPersonMeeting inPersonMeeting -> {
+                    Assertions.assertTrue(row.isInPerson());
+                    Assertions.assertEquals(inPersonMeeting.meetingRoom, row.meetingRoom());
+                    Assertions.assertEquals(inPersonMeeting.nGuests, row.numberOfGuests());
+                    Assertions.assertEquals(inPersonMeeting.timeSlot, row.timeSlot());
+                    Assertions.assertEquals(inPersonMeeting.title, row.title());
+                    Assertions.assertEquals(inPersonMeeting.contact, row.contact());
+                    Assertions.assertThrows(IllegalStateException.class, row::videoLink);
+                }
+                case OnlineMeeting onlineMeeting -> {
+                    Assertions.assertFalse(row.isInPerson());
+                    Assertions.assertEquals(onlineMeeting.videoPlatform, row.videoPlatform());
+                    Assertions.assertEquals(onlineMeeting.videoLink, row.videoLink());
+                    Assertions.assertEquals(onlineMeeting.title, row.title());
+                    Assertions.assertEquals(onlineMeeting.contact, row.contact());
+                    Assertions.assertThrows(IllegalStateException.class, row::numberOfGuests);
+                }
+            }
+        });
+    }
+
+    @Test
+    void shouldScanInAppendOrderPastInitialCapacity() {
+        List<Meeting> meetings = meetings();
+        MeetingStore store = new MeetingStore();
+        List<Meeting> appended = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            Meeting meeting = meetings.get(i % meetings.size());
+            Assertions.assertEquals(i, store.append(meeting));
+            appended.add(meeting);
+        }
+
+        List<Meeting> scanned = new ArrayList<>();
+        int visited = store.scan(row -> scanned.add(row.toMeeting()));
+
+        Assertions.assertEquals(5000, visited);
+        Assertions.assertEquals(appended, scanned);
+        Assertions.assertEquals(appended.get(4321), store.get(4321));
+    }
+
+    @Test
+    void shouldShareDictionaryValuesBetweenMeetings() {
+        MeetingStore store = new MeetingStore();
+        store.append(InPersonMeeting.of(new String("Planning"), "john.doe@acme.org", MeetingRoom.ROOM_101, 5).getValue());
+        store.append(InPersonMeeting.of(new String("Planning"), "john.doe@acme.org", MeetingRoom.ROOM_42, 8).getValue());
+
+        InPersonMeeting first = (InPersonMeeting) store.get(0);
+        InPersonMeeting second = (InPersonMeeting) store.get(1);
+        Assertions.assertSame(first.title, second.title);
+        Assertions.assertSame(first.contact, second.contact);
+        Assertions.assertEquals(MeetingRoom.ROOM_42, second.meetingRoom);
+    }
+
+    @Test
+    void shouldKeepTimeSlotsToTheNanosecond() {
+        Instant monday = Instant.parse("2025-06-02T09:00:00Z");
+        MeetingStore store = new MeetingStore();
+        List<Meeting> appended = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            Instant start = monday.plusSeconds(60L * i).plusNanos(i < 1500 ? 0 : i);
+            appended.add(InPersonMeeting.of("Planning", "john.doe@acme.org", MeetingRoom.ROOM_42, 8, start, start.plusSeconds(1800)).getValue());
+            store.append(appended.getLast());
+            if (i % 7 == 0) {
+                appended.add(InPersonMeeting.of("Planning", "john.doe@acme.org", MeetingRoom.ROOM_42, 8).getValue());
+                store.append(appended.getLast());
+            }
+        }
+
+        for (int row = 0; row < appended.size(); row++) {
+            Assertions.assertEquals(appended.get(row), store.get(row));
+        }
+    }
+
+    @Test
+    void shouldOnlyBuildSelectedMeetings() {
+        MeetingStore store = new MeetingStore();
+        meetings().forEach(store::append);
+
+        List<Meeting> online = store.select(row -> !row.isInPerson());
+
+        Assertions.assertEquals(meetings().stream().filter(OnlineMeeting.class::isInstance).toList(), online);
+    }
+
+    @Test
+    void shouldRejectRowOutOfBounds() {
+        MeetingStore store = new MeetingStore();
+        store.append(meetings().getFirst());
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> store.get(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> store.get(-1));
+    }
+}
@@ -0,0 +1,65 @@
+package sbuch.presentation.examples.meeting.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Set;
+
+class VideoLinkTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "https://zoom.us/j/123456789, ZOOM",
+            "https://us02web.zoom.us/j/123456789?pwd=abc, ZOOM",
+            "HTTPS://Meet.Google.com/abc-defg-hij, MEET",
+            "http://teams.microsoft.com:443/l/meetup-join/123#section, TEAMS"
+    })
+    void shouldAcceptLinksHostedOnTheirPlatform(String value, VideoPlatform videoPlatform) {
+        var videoLink = VideoLink.of(value);
+
+        Assertions.assertFalse(videoLink.hasFailedValidation());
+        Assertions.assertTrue(videoLink.getValue().isHostedOn(videoPlatform));
+        for (VideoPlatform other : VideoPlatform.values()) {
+            Assertions.assertEquals(other == videoPlatform, videoLink.getValue().isHostedOn(other));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "invalid-url", "zoom.us/j/1", "ftp://zoom.us/j/1", "https://", "https:///j/1", "https://zoom..us/j/1",
+            "https://-zoom.us/j/1", "https://zoom.us:/j/1", "https://zoom.us:99999/j/1", "https://user@zoom.us/j/1",
+            "https://zoom.us/j/1 2", "https://zoom.us\\j\\1"
+    })
+    void shouldRejectMalformedLinks(String value) {
+        var videoLink = VideoLink.of(value);
+
+        Assertions.assertTrue(videoLink.hasFailedValidation());
+        Assertions.assertEquals(
+                "Video link must be an http(s) URL with a host name, '%s' is not valid.".formatted(value),
+                videoLink.getError().getMessage()
+        );
+    }
+
+    @Test
+    void shouldCompareOnTextOnly() {
+        var link = VideoLink.of("https://unresolvable.invalid.zoom.us/j/1").getValue();
+
+        Assertions.assertEquals(link, VideoLink.of("https://unresolvable.invalid.zoom.us/j/1").getValue());
+        Assertions.assertNotEquals(link, VideoLink.of("https://UNRESOLVABLE.invalid.zoom.us/j/1").getValue());
+        Assertions.assertTrue(Set.of(link).contains(VideoLink.of(link.value).getValue()));
+    }
+
+    @Test
+    void shouldRejectOnlineMeetingWithoutLink() {
+        var meeting = OnlineMeeting.of("Weekly Standup", "john.doe@acme.org", VideoPlatform.ZOOM, null);
+
+        Assertions.assertTrue(meeting.hasFailedValidation());
+        Assertions.assertEquals(
+                "Video link must be an http(s) URL with a host name, 'null' is not valid.",
+                meeting.getError().getMessage()
+        );
+    }
+}
@@ -0,0 +1,75 @@
+package sbuch.presentation.examples.meeting.flow;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import sbuch.presentation.examples.meeting.MeetingExample;
+import sbuch.presentation.examples.meeting.audit.AuditLog;
+import sbuch.presentation.examples.meeting.audit.OverflowPolicy;
+import sbuch.presentation.examples.meeting.core.ErrorCode;
+import sbuch.presentation.examples.meeting.core.Meeting;
+import sbuch.presentation.examples.meeting.core.ValidationResult;
+import sbuch.presentation.examples.meeting.framework.MeetingIngestionPipeline;
+import sbuch.presentation.examples.meeting.storage.FsyncPolicy;
+import sbuch.presentation.examples.meeting.storage.MeetingLog;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+class MeetingIngestionFlowTest {
+
+    @TempDir
+    Path directory;
+
+    private static String payload(int i) {
+        return switch (i % 3) {
+            case 0 -> """
+                    {"type": "in_person", "title": "Meeting %d", "contactEmail": "john.doe@acme.org", "meetingRoom": "small", "nGuests": 5}
+                    """.formatted(i);
+            case 1 -> """
+                    {"type": "online", "title": "Meeting %d", "contactEmail": "jane.smith@acme.org", "videoPlatform": "zoom", "videoLink": "https://zoom.us/j/%d"}
+                    """.formatted(i, i);
+            default -> """
+                    {"type": "in_person", "title": "Meeting %d", "contactEmail": "john.doe@acme.org", "meetingRoom": "small", "nGuests": 0}
+                    """.formatted(i);
+        };
+    }
+
+    @Test
+    void shouldIngestAndSaveEveryValidPayload() throws Exception {
+        int count = 600;
+        var settings = new StageProcessor.Settings(4, 16);
+        try (MeetingLog log = MeetingLog.open(directory.resolve("log"), FsyncPolicy.NEVER);
+             AuditLog auditLog = AuditLog.open(directory.resolve("audit"), OverflowPolicy.BLOCK);
+             ExecutorService executor = Executors.newFixedThreadPool(4);
+             SubmissionPublisher<String> source = new SubmissionPublisher<>(executor, 8)) {
+            var flow = new MeetingIngestionFlow(new MeetingIngestionPipeline(), new MeetingExample(log, auditLog), executor, settings, settings, new StageProcessor.Settings(1, 8));
+            var subscriber = new StageProcessorTest.CollectingSubscriber<ValidationResult<Meeting>>();
+            source.subscribe(flow);
+            flow.subscribe(subscriber);
+            subscriber.subscription.request(Long.MAX_VALUE);
+
+            for (int i = 0; i < count; i++) {
+                source.submit(payload(i));
+                for (StageProcessor<?, ?> stage : flow.stages()) {
+                    Assertions.assertTrue(stage.depth() <= 16, stage::toString);
+                }
+            }
+            source.close();
+
+            List<ValidationResult<Meeting>> results = subscriber.done.get(30, TimeUnit.SECONDS);
+            Assertions.assertEquals(count, results.size());
+            Assertions.assertEquals(count / 3, results.stream().filter(ValidationResult::hasFailedValidation).count());
+            Assertions.assertTrue(results.stream()
+                    .filter(ValidationResult::hasFailedValidation)
+                    .allMatch(result -> result.getError().getCode() == ErrorCode.INVALID_RAW_OBJECT));
+            Assertions.assertEquals(2 * count / 3, log.replay(meeting -> {
+            }));
+            Assertions.assertEquals(List.of("parse", "validate", "save"), flow.stages().stream().map(StageProcessor::name).toList());
+        }
+    }
+}
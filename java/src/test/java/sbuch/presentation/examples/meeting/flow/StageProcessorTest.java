@@ -0,0 +1,223 @@
+package sbuch.presentation.examples.meeting.flow;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+class StageProcessorTest {
+
+    /**
+     * Publishes the integers {@code [0, count)} from the requesting thread, and tracks the demand it received.
+     */
+    static final class RangePublisher implements Flow.Publisher<Integer> {
+        final AtomicLong requested = new AtomicLong();
+        final AtomicInteger emitted = new AtomicInteger();
+        private final int count;
+        private final AtomicInteger wip = new AtomicInteger();
+
+        RangePublisher(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Integer> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    requested.addAndGet(n);
+                    if (wip.getAndIncrement() != 0)
+                        return;
+                    do {
+                        while (emitted.get() < count && emitted.get() < requested.get()) {
+                            subscriber.onNext(emitted.getAndIncrement());
+                        }
+                        if (emitted.get() == count) {
+                            subscriber.onComplete();
+                            emitted.incrementAndGet();
+                        }
+                    } while (wip.decrementAndGet() != 0);
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+        }
+    }
+
+    static final class CollectingSubscriber<T> implements Flow.Subscriber<T> {
+        final List<T> items = Collections.synchronizedList(new ArrayList<>());
+        final CompletableFuture<List<T>> done = new CompletableFuture<>();
+        Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            done.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            done.complete(items);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 16})
+    void shouldProcessEveryItem(int parallelism) throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            var stage = new StageProcessor<Integer, Integer>("square", i -> i * i, executor, new StageProcessor.Settings(parallelism, 8));
+            var subscriber = new CollectingSubscriber<Integer>();
+            new RangePublisher(1000).subscribe(stage);
+            stage.subscribe(subscriber);
+            subscriber.subscription.request(Long.MAX_VALUE);
+
+            List<Integer> items = new ArrayList<>(subscriber.done.get(10, TimeUnit.SECONDS));
+            Collections.sort(items);
+            Assertions.assertEquals(IntStream.range(0, 1000).map(i -> i * i).boxed().toList(), items);
+            Assertions.assertEquals(0, stage.depth());
+        }
+    }
+
+    @Test
+    void shouldStopRequestingWhenTheBufferIsFull() throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            var stage = new StageProcessor<Integer, Integer>("identity", i -> i, executor, new StageProcessor.Settings(2, 5));
+            var subscriber = new CollectingSubscriber<Integer>();
+            var source = new RangePublisher(100);
+            source.subscribe(stage);
+            stage.subscribe(subscriber);
+
+            Thread.sleep(100);
+            Assertions.assertEquals(5, source.requested.get());
+            Assertions.assertEquals(5, stage.depth());
+            Assertions.assertEquals(5, stage.awaitingDemand());
+
+            subscriber.subscription.request(3);
+            Assertions.assertEquals(8, source.requested.get());
+            Assertions.assertEquals(3, subscriber.items.size());
+
+            subscriber.subscription.request(Long.MAX_VALUE);
+            Assertions.assertEquals(100, subscriber.done.get(10, TimeUnit.SECONDS).size());
+        }
+    }
+
+    @Test
+    void shouldPropagateBackpressureAcrossStages() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newCachedThreadPool()) {
+            var fast = new StageProcessor<Integer, Integer>("fast", i -> i, executor, new StageProcessor.Settings(4, 10));
+            var slow = new StageProcessor<Integer, Integer>("slow", i -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return i;
+            }, executor, new StageProcessor.Settings(2, 4));
+            var subscriber = new CollectingSubscriber<Integer>();
+            var source = new RangePublisher(1000);
+            source.subscribe(fast);
+            fast.subscribe(slow);
+            slow.subscribe(subscriber);
+            subscriber.subscription.request(Long.MAX_VALUE);
+
+            Thread.sleep(200);
+            Assertions.assertEquals(14, source.requested.get());
+            Assertions.assertEquals(10, fast.depth());
+            Assertions.assertEquals(4, slow.depth());
+            Assertions.assertEquals(2, slow.inFlight());
+
+            release.countDown();
+            Assertions.assertEquals(1000, subscriber.done.get(10, TimeUnit.SECONDS).size());
+        }
+    }
+
+    @Test
+    void shouldSignalFailuresOfTheFunction() throws Exception {
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            var stage = new StageProcessor<Integer, Integer>("failing", i -> {
+                if (i == 42)
+                    throw new IllegalStateException("boom");
+                return i;
+            }, executor, new StageProcessor.Settings(1, 16));
+            var subscriber = new CollectingSubscriber<Integer>();
+            new RangePublisher(100).subscribe(stage);
+            stage.subscribe(subscriber);
+            subscriber.subscription.request(Long.MAX_VALUE);
+
+            var thrown = Assertions.assertThrows(Exception.class, () -> subscriber.done.get(10, TimeUnit.SECONDS));
+            Assertions.assertEquals("boom", thrown.getCause().getMessage());
+        }
+    }
+
+    @Test
+    void shouldRejectNonPositiveDemand() {
+        var stage = new StageProcessor<Integer, Integer>("identity", i -> i, Runnable::run, new StageProcessor.Settings(1, 1));
+        var subscriber = new CollectingSubscriber<Integer>();
+        stage.subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+
+        Assertions.assertTrue(subscriber.done.isCompletedExceptionally());
+    }
+
+    @Test
+    void shouldAcceptASingleSubscriber() {
+        var stage = new StageProcessor<Integer, Integer>("identity", i -> i, Runnable::run, new StageProcessor.Settings(1, 1));
+        stage.subscribe(new CollectingSubscriber<>());
+        var second = new CollectingSubscriber<Integer>();
+
+        stage.subscribe(second);
+
+        Assertions.assertTrue(second.done.isCompletedExceptionally());
+    }
+
+    @Test
+    void shouldCancelUpstreamWhenCancelled() {
+        var cancelled = new ConcurrentLinkedQueue<Boolean>();
+        var stage = new StageProcessor<Integer, Integer>("identity", i -> i, Runnable::run, new StageProcessor.Settings(1, 4));
+        stage.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+                cancelled.add(true);
+            }
+        });
+        var subscriber = new CollectingSubscriber<Integer>();
+        stage.subscribe(subscriber);
+        stage.onNext(1);
+
+        subscriber.subscription.cancel();
+
+        Assertions.assertEquals(1, cancelled.size());
+        Assertions.assertEquals(0, stage.depth());
+    }
+}
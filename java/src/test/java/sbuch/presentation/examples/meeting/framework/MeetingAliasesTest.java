@@ -0,0 +1,94 @@
+package sbuch.presentation.examples.meeting.framework;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import sbuch.presentation.examples.meeting.core.MeetingRoom;
+import sbuch.presentation.examples.meeting.core.VideoPlatform;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+class MeetingAliasesTest {
+
+    private static final String IN_PERSON = """
+            {"type": "in_person", "title": "Team Meeting", "contactEmail": "john.doe@acme.org", "meetingRoom": %s, "nGuests": 5}
+            """;
+    private static final String ONLINE = """
+            {"type": "online", "title": "Weekly Standup", "contactEmail": "team.lead@acme.org", "videoPlatform": %s, "videoLink": "https://zoom.us/j/1"}
+            """;
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void resetAliases() {
+        MeetingAliases.reset();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"huge\"", "\"Small\"", "\"smal\"", "\"small \"", "\"\"", "101", "true", "{\"size\": \"small\"}", "[\"small\"]"})
+    void shouldRejectUnknownMeetingRooms(String meetingRoom) {
+        var result = MeetingFrameworkDeserializer.createMeetingFromRaw(IN_PERSON.formatted(meetingRoom));
+
+        Assertions.assertTrue(result.hasFailedValidation());
+        Assertions.assertEquals("Raw object is not valid", result.getError().getMessage());
+    }
+
+    @Test
+    void shouldResolveAliasesRegisteredAtRuntime() {
+        Assertions.assertTrue(MeetingFrameworkDeserializer.createMeetingFromRaw(IN_PERSON.formatted("\"huddle-room\"")).hasFailedValidation());
+
+        MeetingAliases.addMeetingRoomAlias("huddle-room", MeetingRoom.ROOM_101);
+        var result = MeetingFrameworkDeserializer.createMeetingFromRaw(IN_PERSON.formatted("\"huddle-room\""));
+
+        Assertions.assertFalse(result.hasFailedValidation());
+        Assertions.assertEquals(MeetingRoom.ROOM_101, ((MeetingFramework.InPersonMeetingFramework) result.getValue()).meetingRoom());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> MeetingAliases.addMeetingRoomAlias("huddle-room", MeetingRoom.ROOM_42));
+    }
+
+    @Test
+    void shouldLoadAliasesFromProperties() {
+        Properties aliases = new Properties();
+        aliases.setProperty("videoPlatform.msteams", "TEAMS");
+        aliases.setProperty("meetingRoom.auditorium", "AMPHITHEATER");
+        MeetingAliases.load(aliases);
+
+        var online = MeetingFrameworkDeserializer.createMeetingFromRaw(ONLINE.formatted("\"msteams\""));
+        var inPerson = MeetingFrameworkDeserializer.createMeetingFromRaw(IN_PERSON.formatted("\"auditorium\""));
+
+        Assertions.assertEquals(VideoPlatform.TEAMS, ((MeetingFramework.OnlineMeetingFramework) online.getValue()).videoPlatform());
+        Assertions.assertEquals(MeetingRoom.AMPHITHEATER, ((MeetingFramework.InPersonMeetingFramework) inPerson.getValue()).meetingRoom());
+    }
+
+    @Test
+    void shouldIgnoreInvalidAliasesFile() throws IOException {
+        Path aliasesFile = Files.writeString(directory.resolve("aliases.properties"), """
+                meetingRoom.auditorium=AMPHITHEATER
+                videoPlatform.msteams=SKYPE
+                """);
+
+        Assertions.assertFalse(MeetingAliases.loadFile(aliasesFile));
+        Assertions.assertFalse(MeetingAliases.loadFile(directory.resolve("missing.properties")));
+
+        Assertions.assertTrue(MeetingFrameworkDeserializer.createMeetingFromRaw(IN_PERSON.formatted("\"auditorium\"")).hasFailedValidation());
+        Assertions.assertFalse(MeetingFrameworkDeserializer.createMeetingFromRaw(IN_PERSON.formatted("\"large\"")).hasFailedValidation());
+    }
+
+    @Test
+    void shouldAddNoAliasFromInvalidProperties() {
+        Properties aliases = new Properties();
+        aliases.setProperty("meetingRoom.auditorium", "AMPHITHEATER");
+        aliases.setProperty("meetingRoom.small", "AMPHITHEATER");
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> MeetingAliases.load(aliases));
+
+        Assertions.assertNull(MeetingAliases.MEETING_ROOMS.lookup("auditorium"));
+        Assertions.assertEquals(MeetingRoom.ROOM_101, MeetingAliases.MEETING_ROOMS.lookup("small"));
+    }
+}
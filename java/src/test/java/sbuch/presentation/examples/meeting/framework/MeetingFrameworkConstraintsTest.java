@@ -0,0 +1,99 @@
+package sbuch.presentation.examples.meeting.framework;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import sbuch.presentation.examples.meeting.core.MeetingRoom;
+import sbuch.presentation.examples.meeting.core.VideoLink;
+import sbuch.presentation.examples.meeting.core.VideoPlatform;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+class MeetingFrameworkConstraintsTest {
+
+    private static final Predicate<MeetingFramework> GENERATED = MeetingFrameworkConstraints.generatedOrBeanValidation();
+    private static final Predicate<MeetingFramework> BEAN_VALIDATION = MeetingFrameworkConstraints.beanValidation();
+    private static final Predicate<MeetingFramework> BEAN_VALIDATION_EL = MeetingFrameworkConstraints.beanValidation(true);
+
+    public static Stream<Arguments> provideFrameworkObjects() {
+        var link = VideoLink.of("https://zoom.us/j/123456789").getValue();
+        return Stream.of(
+                Arguments.of(new MeetingFramework.InPersonMeetingFramework("Team Meeting", "john.doe@acme.org", MeetingRoom.ROOM_101, 5)),
+                Arguments.of(new MeetingFramework.InPersonMeetingFramework(null, "john.doe@acme.org", MeetingRoom.ROOM_101, 5)),
+                Arguments.of(new MeetingFramework.InPersonMeetingFramework(" \t ", "john.doe@acme.org", MeetingRoom.ROOM_101, 5)),
+                Arguments.of(new MeetingFramework.InPersonMeetingFramework("Team Meeting", null, MeetingRoom.ROOM_101, 5)),
+                Arguments.of(new MeetingFramework.InPersonMeetingFramework("Team Meeting", "invalid-email", MeetingRoom.ROOM_101, 5)),
+                Arguments.of(new MeetingFramework.InPersonMeetingFramework("Team Meeting", "john.doe@gmail.com", MeetingRoom.ROOM_101, 5)),
+                Arguments.of(new MeetingFramework.InPersonMeetingFramework("Team Meeting", "john.doe@acme.org", null, 5)),
+                Arguments.of(new MeetingFramework.InPersonMeetingFramework("Team Meeting", "john.doe@acme.org", MeetingRoom.ROOM_101, 0)),
+                Arguments.of(new MeetingFramework.InPersonMeetingFramework("Team Meeting", "john.doe@acme.org", MeetingRoom.ROOM_101, -3)),
+                Arguments.of(new MeetingFramework.OnlineMeetingFramework("Weekly Standup", "team.lead@acme.org", VideoPlatform.ZOOM, link)),
+                Arguments.of(new MeetingFramework.OnlineMeetingFramework("", "team.lead@acme.org", VideoPlatform.ZOOM, link)),
+                Arguments.of(new MeetingFramework.OnlineMeetingFramework("Weekly Standup", "team.lead@@acme.org", VideoPlatform.ZOOM, link)),
+                Arguments.of(new MeetingFramework.OnlineMeetingFramework("Weekly Standup", "team.lead@acme.org", null, link)),
+                Arguments.of(new MeetingFramework.OnlineMeetingFramework("Weekly Standup", "team.lead@acme.org", VideoPlatform.ZOOM, null))
+        );
+    }
+
+    @Test
+    void shouldFindGeneratedValidators() {
+        Assertions.assertTrue(GeneratedValidator.find(MeetingFramework.InPersonMeetingFramework.class).isPresent());
+        Assertions.assertTrue(GeneratedValidator.find(MeetingFramework.OnlineMeetingFramework.class).isPresent());
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideFrameworkObjects")
+    void shouldMatchBeanValidation(MeetingFramework meeting) {
+        Assertions.assertEquals(BEAN_VALIDATION.test(meeting), GENERATED.test(meeting));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideFrameworkObjects")
+    void shouldNotDependOnMessageInterpolation(MeetingFramework meeting) {
+        Assertions.assertEquals(BEAN_VALIDATION_EL.test(meeting), BEAN_VALIDATION.test(meeting));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"generated", "bean-validation", "bean-validation-el", "", "Generated", "bean_validation"})
+    void shouldWarnAboutUnknownModes(String mode) {
+        Logger logger = Logger.getLogger(MeetingFrameworkConstraints.class.getName());
+        List<LogRecord> records = new ArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        logger.addHandler(handler);
+        try {
+            var constraints = MeetingFrameworkConstraints.generatedOrBeanValidation(mode);
+
+            boolean known = List.of("generated", "bean-validation", "bean-validation-el").contains(mode);
+            Assertions.assertEquals(known ? 0 : 1, records.stream().filter(record -> record.getLevel() == Level.WARNING).count());
+            provideFrameworkObjects().forEach(arguments -> {
+                var meeting = (MeetingFramework) arguments.get()[0];
+                Assertions.assertEquals(BEAN_VALIDATION.test(meeting), constraints.test(meeting));
+            });
+        } finally {
+            logger.removeHandler(handler);
+        }
+    }
+}
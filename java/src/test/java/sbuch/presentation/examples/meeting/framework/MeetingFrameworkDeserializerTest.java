@@ -1,20 +1,26 @@
 package sbuch.presentation.examples.meeting.framework;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import sbuch.presentation.examples.meeting.core.MeetingRoom;
 import sbuch.presentation.examples.meeting.core.ValidationResult;
+import sbuch.presentation.examples.meeting.core.VideoLink;
 import sbuch.presentation.examples.meeting.core.VideoPlatform;
 
-import java.net.MalformedURLException;
-import java.net.URI;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.stream.Stream;
 
 class MeetingFrameworkDeserializerTest {
 
-    public static Stream<Arguments> provideValidRawInputs() throws MalformedURLException {
+    public static Stream<Arguments> provideValidRawInputs() {
         return Stream.of(
                 Arguments.of(
                         """
@@ -82,7 +88,7 @@ class MeetingFrameworkDeserializerTest {
                                 "Weekly Standup",
                                 "team.lead@acme.org",
                                 VideoPlatform.ZOOM,
-                                URI.create("https://zoom.us/j/123456789").toURL()
+                                VideoLink.of("https://zoom.us/j/123456789").getValue()
                         )
                 ),
                 Arguments.of(
@@ -99,7 +105,7 @@ class MeetingFrameworkDeserializerTest {
                                 "Project Review",
                                 "project.manager@acme.org",
                                 VideoPlatform.MEET,
-                                URI.create("https://meet.google.com/abc-defg-hij").toURL()
+                                VideoLink.of("https://meet.google.com/abc-defg-hij").getValue()
                         )
                 ),
                 Arguments.of(
@@ -116,7 +122,7 @@ class MeetingFrameworkDeserializerTest {
                                 "Client Presentation",
                                 "sales.rep@acme.org",
                                 VideoPlatform.TEAMS,
-                                URI.create("https://teams.microsoft.com/l/meetup-join/123456789").toURL()
+                                VideoLink.of("https://teams.microsoft.com/l/meetup-join/123456789").getValue()
                         )
                 )
         );
@@ -279,4 +285,113 @@ class MeetingFrameworkDeserializerTest {
         Assertions.assertTrue(result.hasFailedValidation());
         Assertions.assertEquals(expected, result.getError());
     }
+
+    @Test
+    void shouldStreamNewlineDelimitedRecords() {
+        var input = """
+                {"title": "Team Meeting", "contactEmail": "john.doe@acme.org", "type": "in_person", "meetingRoom": "small", "nGuests": 5}
+                {"title": "Broken", "contactEmail": "john.doe@acme.org", "type": "in_person", "meetingRoom":
+                
+                {"title": "Weekly Standup", "contactEmail": "team.lead@acme.org", "type": "online", "videoPlatform": "skype", "videoLink": "https://zoom.us/j/1"}
+                {"title": "Weekly Standup", "contactEmail": "team.lead@acme.org", "type": "online", "videoPlatform": "zoom", "videoLink": "https://zoom.us/j/1"}
+                """;
+
+        List<IngestedRecord> records;
+        try (var stream = MeetingFrameworkDeserializer.stream(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)))) {
+            records = stream.toList();
+        }
+
+        Assertions.assertEquals(List.of(0L, 1L, 2L, 3L), records.stream().map(IngestedRecord::index).toList());
+        Assertions.assertEquals(List.of(1L, 2L, 4L, 5L), records.stream().map(IngestedRecord::lineNumber).toList());
+        Assertions.assertEquals(List.of(false, true, true, false), records.stream().map(r -> r.result().hasFailedValidation()).toList());
+        Assertions.assertEquals(input.indexOf("{\"title\": \"Broken\""), records.get(1).byteOffset());
+    }
+
+    @Test
+    void shouldStreamJsonArrayRecords() {
+        var input = """
+                [
+                  {"title": "Team Meeting", "contactEmail": "john.doe@acme.org", "type": "in_person", "meetingRoom": "small", "nGuests": 5},
+                  {"title": "Bad Room", "contactEmail": "john.doe@acme.org", "type": "in_person", "meetingRoom": {"size": "small"}, "nGuests": 5},
+                  42,
+                  {"title": "Company Meeting", "contactEmail": "ceo.boss@acme.org", "type": "in_person", "meetingRoom": "large", "nGuests": 100}
+                ]
+                """;
+
+        List<IngestedRecord> records;
+        try (var stream = MeetingFrameworkDeserializer.stream(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)))) {
+            records = stream.toList();
+        }
+
+        Assertions.assertEquals(List.of(2L, 3L, 4L, 5L), records.stream().map(IngestedRecord::lineNumber).toList());
+        Assertions.assertEquals(List.of(false, true, true, false), records.stream().map(r -> r.result().hasFailedValidation()).toList());
+        Assertions.assertEquals(
+                new MeetingFramework.InPersonMeetingFramework("Company Meeting", "ceo.boss@acme.org", MeetingRoom.AMPHITHEATER, 100),
+                records.get(3).result().getValue()
+        );
+    }
+
+    public static Stream<String> provideRawInputsOfEveryKind() {
+        return Stream.of(
+                        provideValidRawInputs().map(arguments -> (String) arguments.get()[0]),
+                        provideInvalidRawInputs().map(arguments -> (String) arguments.get()[0]),
+                        Stream.of(
+                                "",
+                                "null",
+                                "{\"title\": \"Réunion d'équipe ☕\", \"contactEmail\": \"john.doe@acme.org\", \"type\": \"in_person\", \"meetingRoom\": \"small\", \"nGuests\": 5}",
+                                "{\"title\": \"Trailing\", \"contactEmail\": \"john.doe@acme.org\", \"type\": \"in_person\", \"meetingRoom\": \"small\", \"nGuests\": 5} garbage",
+                                "{\"title\": \"\\u000b\\u001f \", \"contactEmail\": \"john.doe@acme.org\", \"type\": \"in_person\", \"meetingRoom\": \"small\", \"nGuests\": 5}",
+                                "{\"title\": \"\\u2003\", \"contactEmail\": \"john.doe@acme.org\", \"type\": \"in_person\", \"meetingRoom\": \"small\", \"nGuests\": 5}",
+                                "{\"title\": \"Standup\", \"contactEmail\": \"team.lead@acme.org\", \"type\": \"online\", \"videoPlatform\": \"zoom\"}"
+                        ))
+                .flatMap(inputs -> inputs);
+    }
+
+    private static void assertSameResult(ValidationResult<MeetingFramework> expected, ValidationResult<MeetingFramework> actual) {
+        Assertions.assertEquals(expected.hasFailedValidation(), actual.hasFailedValidation());
+        if (expected.hasFailedValidation())
+            Assertions.assertEquals(expected.getError().getMessage(), actual.getError().getMessage());
+        else
+            Assertions.assertEquals(expected.getValue(), actual.getValue());
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideRawInputsOfEveryKind")
+    void shouldCreateTheSameMeetingFromBytes(String input) {
+        var expected = MeetingFrameworkDeserializer.createMeetingFromRaw(input);
+        byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+        byte[] padded = new byte[bytes.length + 7];
+        System.arraycopy(bytes, 0, padded, 3, bytes.length);
+        padded[0] = '{';
+        padded[padded.length - 1] = '}';
+
+        assertSameResult(expected, MeetingFrameworkDeserializer.createMeetingFromRaw(padded, 3, bytes.length));
+        assertSameResult(expected, MeetingFrameworkDeserializer.createMeetingFromRaw(new ByteArrayInputStream(bytes)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideRawInputsOfEveryKind")
+    void shouldCreateTheSameMeetingFromByteBuffers(String input) {
+        var expected = MeetingFrameworkDeserializer.createMeetingFromRaw(input);
+        byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer heap = ByteBuffer.allocate(bytes.length + 4).position(2).put(bytes).position(2).limit(bytes.length + 2).slice();
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 4).position(4).put(bytes).position(4);
+
+        assertSameResult(expected, MeetingFrameworkDeserializer.createMeetingFromRaw(heap));
+        assertSameResult(expected, MeetingFrameworkDeserializer.createMeetingFromRaw(direct));
+        assertSameResult(expected, MeetingFrameworkDeserializer.createMeetingFromRaw(direct.asReadOnlyBuffer()));
+        Assertions.assertEquals(4, direct.position());
+    }
+
+    @Test
+    void shouldRejectAStreamThatCannotBeRead() {
+        var failing = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+
+        Assertions.assertTrue(MeetingFrameworkDeserializer.createMeetingFromRaw(failing).hasFailedValidation());
+    }
 }
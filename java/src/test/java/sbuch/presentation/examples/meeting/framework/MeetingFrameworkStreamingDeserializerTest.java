@@ -0,0 +1,49 @@
+package sbuch.presentation.examples.meeting.framework;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+
+class MeetingFrameworkStreamingDeserializerTest {
+
+    private static final ObjectReader ANNOTATION_DRIVEN = new ObjectMapper().readerFor(MeetingFramework.class);
+    private static final ObjectReader STREAMING = new MeetingIngestionPipeline().reader();
+
+    @ParameterizedTest
+    @MethodSource("sbuch.presentation.examples.meeting.framework.MeetingFrameworkDeserializerTest#provideRawInputsOfEveryKind")
+    @ValueSource(strings = {
+            """
+            {"type": "in_person", "title": "Type first", "contactEmail": "john.doe@acme.org", "meetingRoom": "small", "nGuests": 5}
+            """,
+            """
+            {"title": "Coerced", "contactEmail": "john.doe@acme.org", "meetingRoom": "medium", "nGuests": "12", "type": "in_person"}
+            """,
+            """
+            {"title": "Foreign field", "contactEmail": "john.doe@acme.org", "type": "in_person", "meetingRoom": "small", "nGuests": 5, "videoPlatform": "zoom"}
+            """,
+            """
+            {"title": "Unknown field", "contactEmail": "team.lead@acme.org", "type": "online", "videoPlatform": "zoom", "videoLink": "https://zoom.us/j/1", "room": 1}
+            """,
+            """
+            {"title": null, "contactEmail": "team.lead@acme.org", "type": "online", "videoPlatform": null, "videoLink": null}
+            """,
+            "[]",
+            "42"
+    })
+    void shouldMatchAnnotationDrivenDeserialization(String input) {
+        Assertions.assertEquals(read(ANNOTATION_DRIVEN, input), read(STREAMING, input));
+    }
+
+    private static Object read(ObjectReader reader, String input) {
+        try {
+            return reader.readValue(input);
+        } catch (IOException e) {
+            return "failure";
+        }
+    }
+}
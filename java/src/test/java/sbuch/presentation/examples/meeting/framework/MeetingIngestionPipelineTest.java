@@ -0,0 +1,115 @@
+package sbuch.presentation.examples.meeting.framework;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import sbuch.presentation.examples.meeting.core.MeetingRoom;
+import sbuch.presentation.examples.meeting.metrics.IngestionMetrics;
+import sbuch.presentation.examples.meeting.metrics.Rejection;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+class MeetingIngestionPipelineTest {
+
+    private static final String VALID_RAW = """
+            {
+                "title": "Team Meeting",
+                "contactEmail": "john.doe@acme.org",
+                "type": "in_person",
+                "meetingRoom": "small",
+                "nGuests": 5
+            }
+            """;
+
+    private static final String INVALID_RAW = """
+            {
+                "title": "Team Meeting",
+                "contactEmail": "john.doe@acme.org",
+                "type": "in_person",
+                "meetingRoom": "small",
+                "nGuests": 0
+            }
+            """;
+
+    @Test
+    void shouldBeUsableAfterWarmUp() {
+        var pipeline = new MeetingIngestionPipeline().warmUp();
+
+        var result = pipeline.createMeetingFromRaw(VALID_RAW);
+
+        Assertions.assertFalse(result.hasFailedValidation());
+        Assertions.assertEquals(
+                new MeetingFramework.InPersonMeetingFramework("Team Meeting", "john.doe@acme.org", MeetingRoom.ROOM_101, 5),
+                result.getValue()
+        );
+    }
+
+    @Test
+    void shouldBeSafeToShareBetweenThreads() throws Exception {
+        var pipeline = MeetingIngestionPipeline.shared();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            var tasks = IntStream.range(0, 1_000)
+                    .<Callable<Boolean>>mapToObj(i -> () -> pipeline.createMeetingFromRaw(i % 2 == 0 ? VALID_RAW : INVALID_RAW).hasFailedValidation())
+                    .toList();
+
+            var futures = executor.invokeAll(tasks);
+            for (int i = 0; i < futures.size(); i++) {
+                Future<Boolean> future = futures.get(i);
+                Assertions.assertEquals(i % 2 != 0, future.get());
+            }
+        }
+    }
+
+    @Test
+    void shouldNotCountWarmUpInSharedMetrics() {
+        var metrics = IngestionMetrics.shared();
+        long parsed = metrics.getParseLatency().getCount();
+        long validated = metrics.getFrameworkValidationLatency().getCount();
+        long invalidFields = metrics.rejections(Rejection.INVALID_FIELDS);
+
+        MeetingFrameworkDeserializer.prewarm();
+
+        Assertions.assertEquals(parsed, metrics.getParseLatency().getCount());
+        Assertions.assertEquals(validated, metrics.getFrameworkValidationLatency().getCount());
+        Assertions.assertEquals(invalidFields, metrics.rejections(Rejection.INVALID_FIELDS));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void shouldRecordTheSameForEveryFraming(boolean array) {
+        List<String> records = List.of(
+                "{\"title\":\"Team Meeting\",\"contactEmail\":\"john.doe@acme.org\",\"type\":\"in_person\",\"meetingRoom\":\"small\",\"nGuests\":5}",
+                "{\"title\":\"Team Meeting\",\"contactEmail\":\"john.doe@acme.org\",\"type\":\"in_person\",\"meetingRoom\":\"small\",\"nGuests\":5}",
+                "{\"title\":\"Bad Room\",\"contactEmail\":\"john.doe@acme.org\",\"type\":\"in_person\",\"meetingRoom\":\"huge\",\"nGuests\":5}",
+                "42"
+        );
+        String input = array ? "[\n" + String.join(",\n", records) + "\n]" : String.join("\n", records);
+        var cache = new MeetingPayloadCache(100, Duration.ofMinutes(1));
+        var metrics = IngestionMetrics.shared();
+        long parsed = metrics.getParseLatency().getCount();
+        long malformed = metrics.rejections(Rejection.MALFORMED_JSON);
+        long unknownRoom = metrics.rejections(Rejection.UNKNOWN_MEETING_ROOM);
+
+        List<IngestedRecord> ingested;
+        try (var stream = new MeetingIngestionPipeline(cache).stream(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)))) {
+            ingested = stream.toList();
+        }
+
+        Assertions.assertEquals(List.of(false, false, true, true), ingested.stream().map(r -> r.result().hasFailedValidation()).toList());
+        Assertions.assertEquals(1, cache.hitCount());
+        Assertions.assertEquals(3, cache.missCount());
+        Assertions.assertEquals(parsed + 3, metrics.getParseLatency().getCount());
+        Assertions.assertEquals(malformed + 1, metrics.rejections(Rejection.MALFORMED_JSON));
+        Assertions.assertEquals(unknownRoom + 1, metrics.rejections(Rejection.UNKNOWN_MEETING_ROOM));
+    }
+}
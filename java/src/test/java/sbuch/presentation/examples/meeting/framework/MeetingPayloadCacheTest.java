@@ -0,0 +1,170 @@
+package sbuch.presentation.examples.meeting.framework;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import sbuch.presentation.examples.meeting.core.ValidationResult;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+class MeetingPayloadCacheTest {
+
+    private static final String VALID_RAW = """
+            {"type": "in_person", "title": "Team Meeting", "contactEmail": "john.doe@acme.org", "meetingRoom": "small", "nGuests": 5}
+            """;
+
+    private static byte[] bytes(String payload) {
+        return payload.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void shouldIngestARepeatedPayloadOnce() {
+        var cache = new MeetingPayloadCache(100, Duration.ofMinutes(5));
+        var pipeline = new MeetingIngestionPipeline(cache);
+
+        var first = pipeline.createMeetingFromRaw(VALID_RAW);
+        var second = pipeline.createMeetingFromRaw(VALID_RAW);
+
+        Assertions.assertFalse(first.hasFailedValidation());
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, cache.missCount());
+        Assertions.assertEquals(1, cache.hitCount());
+    }
+
+    @Test
+    void shouldShareResultsBetweenTextAndBytePayloads() {
+        var cache = new MeetingPayloadCache(100, Duration.ofMinutes(5));
+        var pipeline = new MeetingIngestionPipeline(cache);
+        byte[] line = bytes("  " + VALID_RAW);
+
+        var fromBytes = pipeline.createMeetingFromRaw(line, 2, line.length - 2);
+        line[10] = 'x';
+
+        Assertions.assertSame(fromBytes, pipeline.createMeetingFromRaw(VALID_RAW));
+    }
+
+    @Test
+    void shouldShareResultsBetweenBuffersAndStreams() {
+        var cache = new MeetingPayloadCache(100, Duration.ofMinutes(5));
+        var pipeline = new MeetingIngestionPipeline(cache);
+        byte[] payload = bytes(VALID_RAW);
+
+        var fromStream = pipeline.createMeetingFromRaw(new ByteArrayInputStream(payload));
+
+        Assertions.assertSame(fromStream, pipeline.createMeetingFromRaw(ByteBuffer.allocateDirect(payload.length).put(payload).flip()));
+        Assertions.assertSame(fromStream, pipeline.createMeetingFromRaw(ByteBuffer.wrap(payload)));
+        Assertions.assertEquals(2, cache.hitCount());
+    }
+
+    @Test
+    void shouldCacheRejectedPayloads() {
+        var cache = new MeetingPayloadCache(100, Duration.ofMinutes(5));
+        var pipeline = new MeetingIngestionPipeline(cache);
+
+        Assertions.assertTrue(pipeline.createMeetingFromRaw("{\"type\": ").hasFailedValidation());
+        Assertions.assertTrue(pipeline.createMeetingFromRaw("{\"type\": ").hasFailedValidation());
+        Assertions.assertEquals(1, cache.hitCount());
+    }
+
+    @Test
+    void shouldCompareThePayloadsOfCollidingHashes() {
+        var first = new MeetingPayloadCache.PayloadKey(42, bytes("{\"a\": 1}"));
+        var second = new MeetingPayloadCache.PayloadKey(42, bytes("{\"a\": 2}"));
+
+        Assertions.assertEquals(first.hashCode(), second.hashCode());
+        Assertions.assertNotEquals(first, second);
+        Assertions.assertEquals(first, new MeetingPayloadCache.PayloadKey(42, bytes("{\"a\": 1}")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 8, 9, 15, 16, 17, 64, 1000})
+    void shouldHashEveryByteOfThePayload(int length) {
+        byte[] payload = new byte[length];
+        Set<Long> hashes = new HashSet<>();
+        hashes.add(MeetingPayloadCache.hash64(payload));
+        for (int i = 0; i < length; i++) {
+            payload[i] = 1;
+            hashes.add(MeetingPayloadCache.hash64(payload));
+            payload[i] = 0;
+        }
+
+        Assertions.assertEquals(length + 1, hashes.size());
+        Assertions.assertNotEquals(MeetingPayloadCache.hash64(new byte[length]), MeetingPayloadCache.hash64(new byte[length + 1]));
+    }
+
+    @Test
+    void shouldExpireEntriesAfterTheirTimeToLive() {
+        AtomicLong now = new AtomicLong();
+        var cache = new MeetingPayloadCache(100, Duration.ofMinutes(5), now::get);
+        AtomicInteger ingestions = new AtomicInteger();
+        Function<byte[], ValidationResult<MeetingFramework>> ingestion = payload -> {
+            ingestions.incrementAndGet();
+            return MeetingIngestionPipeline.validationError();
+        };
+
+        cache.get(bytes(VALID_RAW), ingestion);
+        now.addAndGet(Duration.ofMinutes(4).toNanos());
+        cache.get(bytes(VALID_RAW), ingestion);
+        Assertions.assertEquals(1, ingestions.get());
+
+        now.addAndGet(Duration.ofMinutes(2).toNanos());
+        cache.get(bytes(VALID_RAW), ingestion);
+        Assertions.assertEquals(2, ingestions.get());
+    }
+
+    @Test
+    void shouldStayWithinItsMaximumSize() {
+        var cache = new MeetingPayloadCache(10, Duration.ofMinutes(5));
+        for (int i = 0; i < 1000; i++) {
+            cache.get(bytes("{\"n\": %d}".formatted(i)), payload -> MeetingIngestionPipeline.validationError());
+        }
+        cache.cleanUp();
+
+        Assertions.assertTrue(cache.estimatedSize() <= 10, () -> "size " + cache.estimatedSize());
+    }
+
+    @Test
+    void shouldCoalesceConcurrentIngestionsOfTheSamePayload() throws Exception {
+        var cache = new MeetingPayloadCache(100, Duration.ofMinutes(5));
+        AtomicInteger ingestions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Function<byte[], ValidationResult<MeetingFramework>> slowIngestion = payload -> {
+            ingestions.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return MeetingIngestionPipeline.validationError();
+        };
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<ValidationResult<MeetingFramework>>> results = IntStream.range(0, 8)
+                    .mapToObj(i -> executor.submit(() -> cache.get(bytes(VALID_RAW), slowIngestion)))
+                    .toList();
+            Thread.sleep(100);
+            release.countDown();
+
+            var first = results.getFirst().get();
+            for (var result : results) {
+                Assertions.assertSame(first, result.get());
+            }
+        }
+        Assertions.assertEquals(1, ingestions.get());
+    }
+}
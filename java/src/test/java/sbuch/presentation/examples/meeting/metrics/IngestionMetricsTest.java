@@ -0,0 +1,103 @@
+package sbuch.presentation.examples.meeting.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import sbuch.presentation.examples.meeting.MeetingExample;
+import sbuch.presentation.examples.meeting.core.MeetingRoom;
+import sbuch.presentation.examples.meeting.core.VideoPlatform;
+import sbuch.presentation.examples.meeting.framework.MeetingFrameworkDeserializer;
+
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+
+class IngestionMetricsTest {
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 7, 8, 9, 15, 16, 17, 1_000, 123_456, 987_654_321, Long.MAX_VALUE})
+    void shouldBucketValuesWithinOneEighth(long value) {
+        int bucket = LatencyHistogram.bucketOf(value);
+        long highest = LatencyHistogram.highestValueOf(bucket);
+
+        Assertions.assertTrue(highest >= value);
+        Assertions.assertTrue(highest - value <= value / LatencyHistogram.SUB_BUCKETS);
+        Assertions.assertTrue(bucket == 0 || LatencyHistogram.highestValueOf(bucket - 1) < value);
+    }
+
+    @Test
+    void shouldComputePercentiles() {
+        var histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        var snapshot = histogram.snapshot();
+
+        Assertions.assertEquals(10_000, snapshot.getCount());
+        Assertions.assertEquals(5_000_500, snapshot.getMean());
+        Assertions.assertEquals(10_000_000, snapshot.getMax());
+        Assertions.assertEquals(5_000_000, snapshot.getP50(), 5_000_000 / 8.0);
+        Assertions.assertEquals(9_900_000, snapshot.getP99(), 9_900_000 / 8.0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void shouldCountOutcomesOfEachStage(boolean direct) {
+        var metrics = IngestionMetrics.shared();
+        long malformed = metrics.rejections(Rejection.MALFORMED_JSON);
+        long unknownPlatform = metrics.rejections(Rejection.UNKNOWN_VIDEO_PLATFORM);
+        long overCapacity = metrics.overCapacityRejections(MeetingRoom.ROOM_42);
+        long badUsername = metrics.rejections(Rejection.BAD_USERNAME);
+        long amphitheater = metrics.successes(MeetingRoom.AMPHITHEATER);
+        long zoom = metrics.successes(VideoPlatform.ZOOM);
+        long parsed = metrics.getParseLatency().getCount();
+
+        ingest(direct, "{\"type\": \"in_person\",");
+        ingest(direct, """
+                {"type": "online", "title": "Standup", "contactEmail": "team.lead@acme.org", "videoPlatform": "skype", "videoLink": "https://zoom.us/j/1"}
+                """);
+        ingest(direct, """
+                {"type": "in_person", "title": "All hands", "contactEmail": "john.doe@acme.org", "meetingRoom": "medium", "nGuests": 51}
+                """);
+        ingest(direct, """
+                {"type": "in_person", "title": "All hands", "contactEmail": "johndoe@acme.org", "meetingRoom": "large", "nGuests": 51}
+                """);
+        ingest(direct, """
+                {"type": "in_person", "title": "All hands", "contactEmail": "john.doe@acme.org", "meetingRoom": "large", "nGuests": 51}
+                """);
+        ingest(direct, """
+                {"type": "online", "title": "Standup", "contactEmail": "team.lead@acme.org", "videoPlatform": "zoom", "videoLink": "https://zoom.us/j/1"}
+                """);
+
+        Assertions.assertEquals(malformed + 1, metrics.rejections(Rejection.MALFORMED_JSON));
+        Assertions.assertEquals(unknownPlatform + 1, metrics.rejections(Rejection.UNKNOWN_VIDEO_PLATFORM));
+        Assertions.assertEquals(overCapacity + 1, metrics.overCapacityRejections(MeetingRoom.ROOM_42));
+        Assertions.assertEquals(badUsername + 1, metrics.rejections(Rejection.BAD_USERNAME));
+        Assertions.assertEquals(amphitheater + 1, metrics.successes(MeetingRoom.AMPHITHEATER));
+        Assertions.assertEquals(zoom + 1, metrics.successes(VideoPlatform.ZOOM));
+        Assertions.assertEquals(parsed + (direct ? 0 : 6), metrics.getParseLatency().getCount());
+    }
+
+    @Test
+    void shouldPublishMetricsOverJmx() throws Exception {
+        IngestionMetrics.shared().recordDomainValidation(1_000);
+
+        var server = ManagementFactory.getPlatformMBeanServer();
+        var latency = (CompositeData) server.getAttribute(new ObjectName(IngestionMetrics.OBJECT_NAME), "DomainValidationLatency");
+
+        Assertions.assertTrue((Long) latency.get("count") > 0);
+        Assertions.assertNotNull(server.getAttribute(new ObjectName(IngestionMetrics.OBJECT_NAME), "Rejections"));
+    }
+
+    private static void ingest(boolean direct, String rawJson) {
+        if (direct) {
+            MeetingExample.createMeetingFromRaw(rawJson);
+            return;
+        }
+        var framework = MeetingFrameworkDeserializer.createMeetingFromRaw(rawJson);
+        if (!framework.hasFailedValidation())
+            MeetingExample.createMeetingFromFrameworkValidated(framework.getValue());
+    }
+}
@@ -0,0 +1,199 @@
+package sbuch.presentation.examples.meeting.storage;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import sbuch.presentation.examples.meeting.core.InPersonMeeting;
+import sbuch.presentation.examples.meeting.core.Meeting;
+import sbuch.presentation.examples.meeting.core.MeetingRoom;
+import sbuch.presentation.examples.meeting.core.OnlineMeeting;
+import sbuch.presentation.examples.meeting.core.VideoLink;
+import sbuch.presentation.examples.meeting.core.VideoPlatform;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class MeetingLogTest {
+
+    @TempDir
+    Path directory;
+
+    private static Meeting meeting(int i) {
+        if (i % 2 == 0)
+            return InPersonMeeting.of("Meeting " + i, "john.doe@acme.org", MeetingRoom.AMPHITHEATER, 1 + i % 200).getValue();
+        return OnlineMeeting.of("Meeting " + i, "jane.smith@acme.org", VideoPlatform.ZOOM, VideoLink.of("https://zoom.us/j/" + i).getValue()).getValue();
+    }
+
+    private List<Meeting> replay() throws IOException {
+        List<Meeting> meetings = new ArrayList<>();
+        try (MeetingLog log = MeetingLog.open(directory, FsyncPolicy.NEVER, 4096)) {
+            log.replay(meetings::add);
+        }
+        return meetings;
+    }
+
+    @ParameterizedTest
+    @EnumSource(FsyncPolicy.class)
+    void shouldReplayAppendedMeetingsAcrossSegments(FsyncPolicy fsyncPolicy) throws IOException {
+        List<Meeting> appended = new ArrayList<>();
+        try (MeetingLog log = MeetingLog.open(directory, fsyncPolicy, 4096)) {
+            for (int i = 0; i < 500; i++) {
+                appended.add(meeting(i));
+                log.append(appended.getLast());
+            }
+            Assertions.assertTrue(log.segmentCount() > 1);
+        }
+
+        Assertions.assertEquals(appended, replay());
+    }
+
+    @Test
+    void shouldKeepEveryRecordOfConcurrentWriters() throws Exception {
+        try (MeetingLog log = MeetingLog.open(directory, FsyncPolicy.ALWAYS, 4096);
+             ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int w = 0; w < 8; w++) {
+                int writer = w;
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < 100; i++) {
+                        log.append(meeting(writer * 100 + i));
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        }
+
+        Assertions.assertEquals(800, replay().size());
+    }
+
+    @Test
+    void shouldDiscardTornTailOnRecovery() throws IOException {
+        try (MeetingLog log = MeetingLog.open(directory, FsyncPolicy.NEVER, 4096)) {
+            log.append(meeting(0));
+            log.append(meeting(1));
+        }
+        List<Meeting> committed = replay();
+
+        Path segment = directory.resolve("segment-0000000000.log");
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            int end = 0;
+            ByteBuffer header = ByteBuffer.allocate(MeetingLog.HEADER_SIZE);
+            while (channel.read(header.clear(), end) == header.capacity() && header.getInt(0) != 0) {
+                end += MeetingLog.HEADER_SIZE + header.getInt(0);
+            }
+            channel.write(ByteBuffer.allocate(20).putInt(12).putInt(0xCAFE).put((byte) 1).flip(), end);
+        }
+
+        Assertions.assertEquals(committed, replay());
+
+        try (MeetingLog log = MeetingLog.open(directory, FsyncPolicy.NEVER, 4096)) {
+            log.append(meeting(2));
+        }
+        Assertions.assertEquals(List.of(meeting(0), meeting(1), meeting(2)), replay());
+    }
+
+    private List<Meeting> appendAcrossSegments(int count) throws IOException {
+        List<Meeting> appended = new ArrayList<>();
+        try (MeetingLog log = MeetingLog.open(directory, FsyncPolicy.NEVER, 4096)) {
+            for (int i = 0; i < count; i++) {
+                appended.add(meeting(i));
+                log.append(appended.getLast());
+            }
+            Assertions.assertTrue(log.segmentCount() > 2);
+        }
+        return appended;
+    }
+
+    // offsets of the records of a segment
+    private static List<Integer> recordOffsets(FileChannel channel) throws IOException {
+        List<Integer> offsets = new ArrayList<>();
+        int offset = 0;
+        ByteBuffer header = ByteBuffer.allocate(MeetingLog.HEADER_SIZE);
+        while (channel.read(header.clear(), offset) == header.capacity() && header.getInt(0) != 0) {
+            offsets.add(offset);
+            offset += MeetingLog.HEADER_SIZE + header.getInt(0);
+        }
+        return offsets;
+    }
+
+    @Test
+    void shouldDropEverythingAfterTearInEarlierSegment() throws IOException {
+        List<Meeting> appended = appendAcrossSegments(200);
+
+        try (FileChannel channel = FileChannel.open(directory.resolve("segment-0000000000.log"), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) 0xFF}), recordOffsets(channel).get(3) + MeetingLog.HEADER_SIZE + 1);
+        }
+
+        Assertions.assertEquals(appended.subList(0, 3), replay());
+        Assertions.assertFalse(Files.exists(directory.resolve("segment-0000000001.log")));
+
+        try (MeetingLog log = MeetingLog.open(directory, FsyncPolicy.NEVER, 4096)) {
+            Assertions.assertEquals(1, log.segmentCount());
+            log.append(meeting(200));
+        }
+        Assertions.assertEquals(List.of(meeting(0), meeting(1), meeting(2), meeting(200)), replay());
+    }
+
+    @Test
+    void shouldDropEverythingAfterLostRecordAtEndOfSegment() throws IOException {
+        List<Meeting> appended = appendAcrossSegments(200);
+
+        int kept;
+        try (FileChannel channel = FileChannel.open(directory.resolve("segment-0000000000.log"), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            List<Integer> offsets = recordOffsets(channel);
+            kept = offsets.size() - 1;
+            channel.write(ByteBuffer.allocate(MeetingLog.HEADER_SIZE), offsets.getLast());
+        }
+
+        Assertions.assertEquals(appended.subList(0, kept), replay());
+    }
+
+    @Test
+    void shouldDropEverythingAfterMissingSegment() throws IOException {
+        List<Meeting> appended = appendAcrossSegments(200);
+
+        int kept;
+        try (FileChannel channel = FileChannel.open(directory.resolve("segment-0000000000.log"), StandardOpenOption.READ)) {
+            kept = recordOffsets(channel).size();
+        }
+        Files.delete(directory.resolve("segment-0000000001.log"));
+
+        Assertions.assertEquals(appended.subList(0, kept), replay());
+        Assertions.assertFalse(Files.exists(directory.resolve("segment-0000000002.log")));
+    }
+
+    @Test
+    void shouldIgnoreStrayFiles() throws IOException {
+        List<Meeting> appended = appendAcrossSegments(200);
+        Files.writeString(directory.resolve("segment-notes.log"), "not a segment");
+        Files.writeString(directory.resolve("segment-99999999999.log"), "not a segment either");
+        Files.writeString(directory.resolve("segment-0000000001.log.bak"), "");
+
+        Assertions.assertEquals(appended, replay());
+        Assertions.assertTrue(Files.exists(directory.resolve("segment-notes.log")));
+    }
+
+    @Test
+    void shouldRejectReplayAfterClose() throws IOException {
+        MeetingLog log = MeetingLog.open(directory, FsyncPolicy.INTERVAL, 4096);
+        log.append(meeting(0));
+        log.close();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> log.replay(meeting -> {
+        }));
+        Assertions.assertThrows(IllegalStateException.class, () -> log.append(meeting(1)));
+    }
+}